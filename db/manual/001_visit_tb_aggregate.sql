@@ -0,0 +1,35 @@
+-- visit_tb를 방문 1회당 한 행(user_id, date)에서 시간별/일별 집계 행(type, date, visitor_num)으로 변경
+-- ddl-auto로는 컬럼 삭제와 기존 행 변환이 되지 않으므로, 새 버전 배포 전에 한 번 실행한다 (MySQL 8, 절차는 db/manual/README.md)
+
+ALTER TABLE visit_tb
+    ADD COLUMN type VARCHAR(255) NULL,
+    ADD COLUMN visitor_num BIGINT NULL;
+
+-- 기존 방문 기록은 일별 방문자 수로 집계해서 보존
+INSERT INTO visit_tb (type, date, visitor_num)
+SELECT 'DAILY', DATE(date), COUNT(DISTINCT user_id)
+FROM visit_tb
+WHERE type IS NULL
+GROUP BY DATE(date);
+
+DELETE FROM visit_tb WHERE type IS NULL;
+
+-- user_id의 외래키 이름은 Hibernate가 생성한 이름이라 information_schema에서 찾아서 삭제
+SET @fk_name = (
+    SELECT CONSTRAINT_NAME
+    FROM information_schema.KEY_COLUMN_USAGE
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'visit_tb'
+      AND COLUMN_NAME = 'user_id'
+      AND REFERENCED_TABLE_NAME IS NOT NULL
+    LIMIT 1
+);
+SET @drop_fk = IF(@fk_name IS NULL, 'DO 0', CONCAT('ALTER TABLE visit_tb DROP FOREIGN KEY ', @fk_name));
+PREPARE stmt FROM @drop_fk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE visit_tb DROP COLUMN user_id;
+
+-- 같은 시간/날짜의 행이 두 번 저장되지 않도록
+ALTER TABLE visit_tb ADD CONSTRAINT uk_visit_type_date UNIQUE (type, date);
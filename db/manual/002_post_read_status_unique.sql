@@ -0,0 +1,12 @@
+-- 조회할 때마다 행을 추가하던 이전 코드가 남긴 중복 (user_id, post_id) 행을 정리하고 유니크 제약을 추가
+-- 중복이 남아 있으면 제약 추가가 실패하므로, 새 버전 배포 전에 한 번 실행한다 (MySQL 8, 절차는 db/manual/README.md)
+
+-- 같은 (user_id, post_id) 중 id가 가장 작은(처음 읽은) 행만 남긴다
+DELETE duplicate
+FROM post_read_status_tb duplicate
+JOIN post_read_status_tb kept
+  ON kept.user_id = duplicate.user_id
+ AND kept.post_id = duplicate.post_id
+ AND kept.id < duplicate.id;
+
+ALTER TABLE post_read_status_tb ADD CONSTRAINT uk_post_read_status_user_post UNIQUE (user_id, post_id);
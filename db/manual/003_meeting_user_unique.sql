@@ -0,0 +1,16 @@
+-- 동시에 들어온 참가 요청이 남긴 중복 (meeting_id, user_id) 행을 정리하고 유니크 제약을 추가
+-- 중복이 남아 있으면 제약 추가가 실패하므로, 새 버전 배포 전에 한 번 실행한다 (MySQL 8, 절차는 db/manual/README.md)
+
+-- 같은 (meeting_id, user_id) 중 id가 가장 작은(처음 참가한) 행만 남긴다
+DELETE duplicate
+FROM meeting_user_tb duplicate
+JOIN meeting_user_tb kept
+  ON kept.meeting_id = duplicate.meeting_id
+ AND kept.user_id = duplicate.user_id
+ AND kept.id < duplicate.id;
+
+-- 중복 행으로 올라간 참가자 수를 실제 참가 기록 수로 맞춘다
+UPDATE meeting_tb m
+SET m.participant_num = (SELECT COUNT(*) FROM meeting_user_tb mu WHERE mu.meeting_id = m.id);
+
+ALTER TABLE meeting_user_tb ADD CONSTRAINT uk_meeting_user_meeting_user UNIQUE (meeting_id, user_id);
@@ -49,13 +49,13 @@ public class AnimalController {
     }
 
     @GetMapping("/animals")
-    public ResponseEntity<?> findAnimalList(@RequestParam("page") Integer page, @RequestParam("sort") String sort, @AuthenticationPrincipal CustomUserDetails userDetails){
+    public ResponseEntity<?> findAnimalList(@RequestParam("page") Integer page, @RequestParam("sort") String sort, @ModelAttribute AnimalRequest.AnimalFilterDTO filterDTO, @AuthenticationPrincipal CustomUserDetails userDetails){
         Long userId = Optional.ofNullable(userDetails)
                 .map(CustomUserDetails::getUser)
                 .map(User::getId)
                 .orElse(null);
 
-        AnimalResponse.FindAnimalListDTO responseDTO = animalService.findAnimalList(page, sort, userId);
+        AnimalResponse.FindFilteredAnimalListDTO responseDTO = animalService.findAnimalList(page, sort, filterDTO, userId);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
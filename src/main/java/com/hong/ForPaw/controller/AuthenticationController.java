@@ -24,4 +24,10 @@ public class AuthenticationController {
         AuthenticationResponse.FindDashboardStatsDTO responseDTO = authenticationService.findDashboardStats(userDetails.getUser().getId());
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
+
+    @GetMapping("/admin/operations")
+    public ResponseEntity<?> findOperationStats(@AuthenticationPrincipal CustomUserDetails userDetails){
+        AuthenticationResponse.FindOperationStatsDTO responseDTO = authenticationService.findOperationStats(userDetails.getUser().getId());
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
 }
@@ -2,8 +2,17 @@ package com.hong.ForPaw.controller.DTO;
 
 import jakarta.validation.constraints.NotBlank;
 
+import java.util.List;
+
 public class AnimalRequest {
 
+    // 보호 동물 목록 필터, 같은 필터에 여러 값을 주면 OR로 묶인다 (age는 baby/young/adult/senior, shelter는 보호소 등록 번호)
+    public record AnimalFilterDTO(List<String> province,
+                                  List<String> gender,
+                                  List<String> neuter,
+                                  List<String> age,
+                                  List<String> shelter) {}
+
     public record ApplyAdoptionDTO(
                 @NotBlank(message = "지원자 이름을 입력해주세요.")
                 String name,
@@ -4,11 +4,16 @@ import com.hong.ForPaw.domain.Apply.ApplyStatus;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public class AnimalResponse {
 
     public record FindAnimalListDTO(List<AnimalDTO> animals) {}
 
+    public record FindFilteredAnimalListDTO(List<AnimalDTO> animals,
+                                            Integer totalNum,
+                                            Map<String, Map<String, Integer>> facets) {}
+
     public record FindLikeAnimalListDTO(List<AnimalDTO> animals) {}
 
     public record AnimalDTO(Long id,
@@ -53,5 +58,4 @@ public class AnimalResponse {
                            String residence,
                            ApplyStatus status){ }
 
-    public record RecommendationDTO(List<Long> recommendedAnimals) {}
 }
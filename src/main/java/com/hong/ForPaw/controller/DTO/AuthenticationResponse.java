@@ -27,4 +27,22 @@ public class AuthenticationResponse {
                                   Long newPost,
                                   Long newComment,
                                   Long newAdoptApplication) {}
+
+    public record FindOperationStatsDTO(ObjectCleanupStatsDTO objectCleanupStatsDTO,
+                                        AlarmRelayStatsDTO alarmRelayStatsDTO,
+                                        GroupPurgeStatsDTO groupPurgeStatsDTO) {}
+
+    // deletedNum, failedNum은 서버가 시작된 이후의 누적 값 (서버마다 따로 집계)
+    public record ObjectCleanupStatsDTO(Long backlog, Long deletedNum, Long failedNum) {}
+
+    // relayLag: 가장 오래 기다린 알람이 저장된 후 지난 시간 (ms, 마지막 릴레이 실행 기준)
+    public record AlarmRelayStatsDTO(Long publishedNum, Long relayLag) {}
+
+    public record GroupPurgeStatsDTO(Long backlog, List<FailedGroupDeletionDTO> failedDeletionDTOS) {}
+
+    public record FailedGroupDeletionDTO(Long groupId,
+                                         String stage,
+                                         Integer attemptNum,
+                                         String lastError,
+                                         LocalDateTime failedAt) {}
 }
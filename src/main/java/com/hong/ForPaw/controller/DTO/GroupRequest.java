@@ -4,8 +4,10 @@ import com.hong.ForPaw.domain.District;
 import com.hong.ForPaw.domain.Group.GroupRole;
 import com.hong.ForPaw.domain.Province;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -44,6 +46,8 @@ public class GroupRequest {
 
     public record ApproveJoinDTO(@NotNull(message = "id를 입력해주세요.") Long id) {}
 
+    public record ApproveJoinBulkDTO(@NotEmpty(message = "id를 입력해주세요.") @Size(max = 100, message = "한 번에 100명까지 승인할 수 있습니다.") List<@NotNull Long> ids) {}
+
     public record RejectJoinDTO(@NotNull(message = "id를 입력해주세요.") Long id) {}
 
     public record JoinGroupDTO(@NotBlank(message = "가입 인사말을 입력해주세요.") String greeting) {}
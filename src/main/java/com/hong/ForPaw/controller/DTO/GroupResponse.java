@@ -79,6 +79,10 @@ public class GroupResponse {
 
     public record FindMeetingListDTO(List<MeetingDTO> meetings) {}
 
+    public record FindMemberListDTO(List<MemberDTO> members) {}
+
+    public record FindApplicantListDTO(List<ApplicantDTO> applicants) {}
+
     public record NoticeDTO(Long id,
                             String name,
                             LocalDateTime date,
@@ -100,9 +104,13 @@ public class GroupResponse {
 
     public record MemberDTO(Long id, String name, GroupRole role, String profileURL) {}
 
+    public record ApplicantDTO(Long id, String name, String profileURL, String greeting, LocalDateTime date) {}
+
     public record CreateGroupDTO(Long id) {}
 
     public record CreateMeetingDTO(Long id) {}
 
     public record CreateNoticeDTO(Long id) {}
+
+    public record ApproveJoinBulkDTO(List<Long> approvedIds) {}
 }
\ No newline at end of file
@@ -46,4 +46,11 @@ public class PostRequest {
             @NotBlank(message = "신고 사유를 입력해주세요.")
             String reason
     ) {}
+
+    public record UnhideContent(
+            Long postId,
+            Long commentId,
+            @NotNull(message = "숨김 해제하려는 컨텐츠의 유형을 선택해주세요.")
+            ReportTargetType targetType
+    ) {}
 }
@@ -19,6 +19,8 @@ public class PostResponse {
 
     public record FindQnaPostListDTO(List<QnaDTO> questions) {}
 
+    public record FindTrendingPostListDTO(List<PostDTO> posts) {}
+
     public record PostDTO(Long id,
                           String name,
                           String title,
@@ -43,20 +45,34 @@ public class PostResponse {
                                   LocalDateTime date,
                                   Long commentNum,
                                   Long likeNum,
+                                  Long viewNum,
                                   List<PostImageDTO> images,
-                                  List<CommentDTO> comments){}
+                                  List<CommentDTO> comments,
+                                  Long nextCursor){}
+
+    public record FindCommentListDTO(List<CommentDTO> comments, Long nextCursor) {}
+
+    public record FindReplyListDTO(List<ReplyDTO> replies, Long nextCursor) {}
 
     public record FIndQnaByIdDTO(String name,
                                  String title,
                                  String content,
                                  LocalDateTime date,
+                                 Long answerNum,
                                  List<PostImageDTO> images,
-                                 List<AnswerDTO> answers) {}
+                                 List<AnswerDTO> answers,
+                                 AnswerCursorDTO nextCursor) {}
+
+    public record FindAnswerListDTO(List<AnswerDTO> answers, AnswerCursorDTO nextCursor) {}
+
+    // 좋아요 순 정렬일 때는 likeNum도 함께 넘겨야 다음 페이지를 이어서 조회할 수 있다
+    public record AnswerCursorDTO(Long id, Long likeNum) {}
 
     public record AnswerDTO(Long id,
                             String name,
                             String content,
                             LocalDateTime date,
+                            Long likeNum,
                             List<PostImageDTO> images) {}
 
     public record CommentDTO(Long id,
@@ -64,6 +80,7 @@ public class PostResponse {
                              String content,
                              LocalDateTime date,
                              Province location,
+                             Long replyNum,
                              List<ReplyDTO> replies) {}
 
     public record ReplyDTO(Long id,
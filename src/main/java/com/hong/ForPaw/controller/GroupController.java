@@ -7,6 +7,7 @@ import com.hong.ForPaw.core.utils.ApiUtils;
 import com.hong.ForPaw.domain.District;
 import com.hong.ForPaw.domain.Province;
 import com.hong.ForPaw.domain.User.User;
+import com.hong.ForPaw.service.GroupHomeService;
 import com.hong.ForPaw.service.GroupService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ import java.util.Optional;
 public class GroupController {
 
     private final GroupService groupService;
+    private final GroupHomeService groupHomeService;
 
     @PostMapping("/groups")
     public ResponseEntity<?> createGroup(@RequestBody @Valid GroupRequest.CreateGroupDTO requestDTO, @AuthenticationPrincipal CustomUserDetails userDetails){
@@ -50,7 +52,7 @@ public class GroupController {
                 .map(User::getId)
                 .orElse(null);
 
-        GroupResponse.FindAllGroupListDTO responseDTO = groupService.findGroupList(userId);
+        GroupResponse.FindAllGroupListDTO responseDTO = groupHomeService.findGroupList(userId);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
@@ -84,6 +86,18 @@ public class GroupController {
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
+    @GetMapping("/groups/{groupId}/members")
+    public ResponseEntity<?> findMemberList(@PathVariable Long groupId, @RequestParam("page") Integer page, @AuthenticationPrincipal CustomUserDetails userDetails){
+        GroupResponse.FindMemberListDTO responseDTO = groupService.findMemberList(userDetails.getUser().getId(), groupId, page);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/groups/{groupId}/applicants")
+    public ResponseEntity<?> findApplicantList(@PathVariable Long groupId, @RequestParam("page") Integer page, @AuthenticationPrincipal CustomUserDetails userDetails){
+        GroupResponse.FindApplicantListDTO responseDTO = groupService.findApplicantList(userDetails.getUser().getId(), groupId, page);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
     @GetMapping("/groups/{groupId}/meetings")
     public ResponseEntity<?> findMeetingList(@PathVariable Long groupId, @RequestParam("page") Integer page, @AuthenticationPrincipal CustomUserDetails userDetails){
         GroupResponse.FindMeetingListDTO responseDTO = groupService.findMeetingList(userDetails.getUser().getId(), groupId, page);
@@ -114,6 +128,12 @@ public class GroupController {
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, null));
     }
 
+    @PostMapping("/groups/{groupId}/join/approve-bulk")
+    public ResponseEntity<?> approveJoinBulk(@RequestBody @Valid GroupRequest.ApproveJoinBulkDTO requestDTO, @PathVariable Long groupId, @AuthenticationPrincipal CustomUserDetails userDetails){
+        GroupResponse.ApproveJoinBulkDTO responseDTO = groupService.approveJoinBulk(userDetails.getUser().getId(), requestDTO.ids(), groupId);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
     @PostMapping("/groups/{groupID}/join/reject")
     public ResponseEntity<?> rejectJoin(@RequestBody @Valid GroupRequest.RejectJoinDTO requestDTO, @PathVariable Long groupID, @AuthenticationPrincipal CustomUserDetails userDetails){
         groupService.rejectJoin(userDetails.getUser().getId(), requestDTO.id(), groupID);
@@ -5,6 +5,7 @@ import com.hong.ForPaw.controller.DTO.PostResponse;
 import com.hong.ForPaw.core.security.CustomUserDetails;
 import com.hong.ForPaw.core.utils.ApiUtils;
 import com.hong.ForPaw.service.PostService;
+import com.hong.ForPaw.service.ReportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final ReportService reportService;
 
     @PostMapping("/posts")
     public ResponseEntity<?> createPost(@RequestBody @Valid PostRequest.CreatePostDTO requestDTO, @AuthenticationPrincipal CustomUserDetails userDetails){
@@ -57,18 +59,43 @@ public class PostController {
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
+    @GetMapping("/posts/trending")
+    public ResponseEntity<?> findTrendingPostList(@RequestParam(value = "size", defaultValue = "10") Integer size){
+        PostResponse.FindTrendingPostListDTO responseDTO = postService.findTrendingPostList(size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
     @GetMapping("/posts/{postId}")
     public ResponseEntity<?> findPostById(@PathVariable Long postId, @AuthenticationPrincipal CustomUserDetails userDetails){
         PostResponse.FindPostByIdDTO responseDTO = postService.findPostById(postId, userDetails.getUser().getId());
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
+    @GetMapping("/posts/{postId}/comments")
+    public ResponseEntity<?> findCommentList(@PathVariable Long postId, @RequestParam(value = "cursor", defaultValue = "0") Long cursor, @RequestParam(value = "size", defaultValue = "10") Integer size){
+        PostResponse.FindCommentListDTO responseDTO = postService.findCommentList(postId, cursor, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/posts/{postId}/comments/{commentId}/replies")
+    public ResponseEntity<?> findReplyList(@PathVariable Long postId, @PathVariable Long commentId, @RequestParam(value = "cursor", defaultValue = "0") Long cursor, @RequestParam(value = "size", defaultValue = "10") Integer size){
+        PostResponse.FindReplyListDTO responseDTO = postService.findReplyList(postId, commentId, cursor, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
     @GetMapping("/posts/{postId}/qna")
     public ResponseEntity<?> findQnaById(@PathVariable Long postId){
         PostResponse.FIndQnaByIdDTO responseDTO = postService.findQnaById(postId);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
+    @GetMapping("/posts/{postId}/qna/answers")
+    public ResponseEntity<?> findAnswerList(@PathVariable Long postId, @RequestParam(value = "sort", defaultValue = "date") String sort, @RequestParam(value = "cursor", required = false) Long cursor,
+                                            @RequestParam(value = "likeNum", required = false) Long likeNum, @RequestParam(value = "size", defaultValue = "10") Integer size){
+        PostResponse.FindAnswerListDTO responseDTO = postService.findAnswerList(postId, sort, cursor, likeNum, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
     @PatchMapping("/posts/{postId}")
     public ResponseEntity<?> updatePost(@RequestBody @Valid PostRequest.UpdatePostDTO requestDTO, @PathVariable Long postId, @AuthenticationPrincipal CustomUserDetails userDetails){
         postService.updatePost(requestDTO, userDetails.getUser(), postId);
@@ -119,7 +146,13 @@ public class PostController {
 
     @PostMapping("/reports")
     public ResponseEntity<?> submitReport(@RequestBody @Valid PostRequest.SubmitReport requestDTO, @AuthenticationPrincipal CustomUserDetails userDetails){
-        postService.submitReport(requestDTO, userDetails.getUser().getId());
+        reportService.submitReport(requestDTO, userDetails.getUser().getId());
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, null));
+    }
+
+    @PatchMapping("/admin/reports/unhide")
+    public ResponseEntity<?> unhideContent(@RequestBody @Valid PostRequest.UnhideContent requestDTO, @AuthenticationPrincipal CustomUserDetails userDetails){
+        reportService.unhideContent(requestDTO, userDetails.getUser().getId());
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, null));
     }
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.hong.ForPaw.core.config;
 
+import com.hong.ForPaw.service.AnimalFacetService;
+import com.hong.ForPaw.service.AnimalRecommendService;
+import com.hong.ForPaw.service.AnimalSimilarityService;
 import com.hong.ForPaw.service.BrokerService;
+import com.hong.ForPaw.service.GroupRecommendService;
 import com.hong.ForPaw.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -13,11 +17,19 @@ public class AppStartupListener implements ApplicationListener<ApplicationReadyE
 
     private final BrokerService brokerService;
     private final UserService userService;
+    private final GroupRecommendService groupRecommendService;
+    private final AnimalSimilarityService animalSimilarityService;
+    private final AnimalRecommendService animalRecommendService;
+    private final AnimalFacetService animalFacetService;
 
     @Override
     public void onApplicationEvent(ApplicationReadyEvent event) {
         brokerService.initChatListener();
         brokerService.initAlarmListener();
         userService.initSuperAdmin();
+        groupRecommendService.rebuildCandidates();
+        animalSimilarityService.rebuildIndex();
+        animalRecommendService.refreshRegionCandidates();
+        animalFacetService.rebuildIndex();
     }
 }
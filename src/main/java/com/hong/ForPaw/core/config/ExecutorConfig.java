@@ -0,0 +1,43 @@
+package com.hong.ForPaw.core.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 서비스에서 쓰는 스레드 풀. 컨텍스트가 종료될 때 같이 종료된다
+@Configuration
+public class ExecutorConfig {
+
+    // 그룹 홈 섹션 쿼리용. 스레드마다 DB 커넥션을 하나씩 쓰므로 Hikari 풀의 절반까지만 사용하고,
+    // 큐가 차면 요청 스레드에서 직접 실행해서 (순차 실행으로 느려질 뿐) 타임아웃으로 실패하지 않게 한다
+    @Bean
+    public ThreadPoolTaskExecutor groupHomeExecutor(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxPoolSize) {
+        int poolSize = Math.max(1, maxPoolSize / 2);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("group-home-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+
+    // 동물 추천 목록 갱신용. 유저별로 하나씩만 대기하므로 큐가 차면 (다음 조회 때 다시 요청되는) 갱신을 버린다
+    @Bean
+    public ThreadPoolTaskExecutor animalRecommendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("animal-recommend-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+}
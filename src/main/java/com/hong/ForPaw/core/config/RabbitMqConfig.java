@@ -1,9 +1,11 @@
 package com.hong.ForPaw.core.config;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -21,6 +23,19 @@ public class RabbitMqConfig implements RabbitListenerConfigurer {
 
     private final ConnectionFactory connectionFactory;
 
+    // 알람 릴레이는 waitForConfirmsOrDie로 브로커의 확인을 기다리므로 simple 발행 확인 모드가 반드시 켜져 있어야 한다
+    // 설정 파일에 없어도 여기서 켜고, 그래도 꺼져 있으면(다른 ConnectionFactory 사용 등) 애플리케이션을 시작하지 않는다
+    @PostConstruct
+    public void enablePublisherConfirms() {
+        if (connectionFactory instanceof CachingConnectionFactory cachingConnectionFactory) {
+            cachingConnectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
+        }
+
+        if (!connectionFactory.isSimplePublisherConfirms()) {
+            throw new IllegalStateException("RabbitMQ publisher confirm(simple)이 꺼져 있어서 알람을 발행할 수 없습니다.");
+        }
+    }
+
     @Bean
     public RabbitAdmin rabbitAdmin() {
         return new RabbitAdmin(connectionFactory);
@@ -32,6 +32,8 @@ public enum ExceptionCode {
     REPORT_TARGET_MISSING(HttpStatus.BAD_REQUEST, "게시글 혹 댓글의 정보를 입력해주세요."),
     ALREADY_REPORTED(HttpStatus.BAD_REQUEST, "이미 신고하셨습니다."),
     CANNOT_REPORT_OWN_CONTENT(HttpStatus.BAD_REQUEST, "자신의 컨텐츠에는 신고할 수 없습니다"),
+    REPORT_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "신고 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    NOT_HIDDEN_CONTENT(HttpStatus.BAD_REQUEST, "숨김 처리된 컨텐츠가 아닙니다."),
 
     // 이메일 코드 관련 에러
     CODE_EXPIRED(HttpStatus.BAD_REQUEST, "유효기간이 만료되었습니다."),
@@ -60,10 +62,12 @@ public enum ExceptionCode {
     MEETING_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 정기모임 입니다."),
     MEETING_ALREADY_JOIN(HttpStatus.BAD_REQUEST, "모임에 이미 참가하였습니다."),
     MEETING_NOT_MEMBER(HttpStatus.BAD_REQUEST, "모임에 참가중이지 않습니다."),
+    MEETING_FULL(HttpStatus.CONFLICT, "모임 정원이 가득 찼습니다."),
 
     // 게시글 관련 에러
     POST_TYPE_INCORRECT(HttpStatus.BAD_REQUEST, "게시글의 요청 타입이 올바르지 않습니다."),
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 글입니다."),
+    POST_HIDDEN(HttpStatus.FORBIDDEN, "신고가 누적되어 숨김 처리된 글입니다."),
     CANT_LIKE_MY_POST(HttpStatus.BAD_REQUEST, "자신의 글에는 좋아요를 할 수 없습니다."),
     NOT_QUESTION_TYPE(HttpStatus.BAD_REQUEST, "질문글이 아닙니다."),
     IS_QUESTION_TYPE(HttpStatus.BAD_REQUEST, "질문글은 질문 조회 API를 호출해주세요."),
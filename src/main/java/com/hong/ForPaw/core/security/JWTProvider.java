@@ -5,6 +5,7 @@ import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
 import com.hong.ForPaw.domain.User.User;
 import org.springframework.stereotype.Component;
 
@@ -22,34 +23,45 @@ public class JWTProvider {
     public static final String HEADER = "Authorization";
     public static final String SECRET = "MySecretKey";
 
+    // 알고리즘과 검증기는 스레드 안전하므로, 요청마다 생성하지 않고 재사용
+    private static final Algorithm ALGORITHM = Algorithm.HMAC512(SECRET);
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build();
+
     // access token 생성
-    public static String createAccessToken(User user) {
-        String jwt = create(user, ACCESS_EXP);
+    public static String createAccessToken(User user, Long version) {
+        String jwt = create(user, ACCESS_EXP, version);
         return jwt;
     }
 
     // refresh token 생성
-    public static String createRefreshToken(User user) {
-        String jwt = create(user, REFRESH_EXP);
+    public static String createRefreshToken(User user, Long version) {
+        String jwt = create(user, REFRESH_EXP, version);
         return jwt;
     }
 
-    public static String create(User user, Long exp) {
+    // version: 세션의 토큰 버전. 재발급 시 세션에 저장된 버전과 비교해서 이미 사용된 토큰을 걸러낸다
+    public static String create(User user, Long exp, Long version) {
         String jwt = JWT.create()
                 .withSubject(user.getEmail())
                 .withExpiresAt(new Date(System.currentTimeMillis() + exp))
                 .withClaim("id", user.getId())
                 .withClaim("role", user.getRole().ordinal())
                 .withClaim("nickName", user.getNickName())
-                .sign(Algorithm.HMAC512(SECRET));
+                .withClaim("ver", version)
+                .sign(ALGORITHM);
         return jwt;
     }
 
     public static DecodedJWT verify(String jwt) throws SignatureVerificationException, TokenExpiredException {
-        jwt = jwt.replace(JWTProvider.TOKEN_PREFIX, "");
-        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(SECRET))
-                .build().verify(jwt);
-        return decodedJWT;
+        return VERIFIER.verify(resolveToken(jwt));
+    }
+
+    // 헤더 값에서 "Bearer " 접두사 제거 (replace와 달리 전체 문자열을 스캔하지 않음)
+    public static String resolveToken(String jwt) {
+        if (jwt.startsWith(TOKEN_PREFIX)) {
+            return jwt.substring(TOKEN_PREFIX.length());
+        }
+        return jwt;
     }
 
     public static Long getUserIdFromToken(String token) {
@@ -59,8 +71,7 @@ public class JWTProvider {
 
     public static boolean validateToken(String token) {
         try {
-            token = token.replace(JWTProvider.TOKEN_PREFIX, "");
-            JWT.require(Algorithm.HMAC512(SECRET)).build().verify(token);
+            VERIFIER.verify(resolveToken(token));
             return true;
         } catch (JWTVerificationException exception) { // 잘못된 서명 등 디코딩이 안되는 잘못된 토큰
             return false;
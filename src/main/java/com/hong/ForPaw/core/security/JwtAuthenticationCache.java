@@ -0,0 +1,61 @@
+package com.hong.ForPaw.core.security;
+
+import com.hong.ForPaw.domain.User.UserRole;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 최근에 검증한 토큰 => 토큰 클레임 캐시. 같은 토큰으로 들어오는 요청은 서명 검증과 클레임 파싱을 생략한다
+// JPA 엔티티(User)를 요청 사이에 공유하지 않도록 변경되지 않는 값만 저장하고, 사용자 정보는 요청마다 새로 만든다
+@Component
+public class JwtAuthenticationCache {
+
+    private static final int MAX_SIZE = 10_000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 접근 순서로 정렬된 LRU. 가득 차면 가장 오래 사용되지 않은 항목 하나만 제거하므로 요청 스레드에서 정렬하지 않는다
+    private final Map<String, CachedPrincipal> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    public JwtPrincipal get(String token) {
+        lock.lock();
+        try {
+            CachedPrincipal cached = cache.get(token);
+
+            if (cached == null) {
+                return null;
+            }
+
+            // 토큰 만료 시간이 지났으면 캐시에서 제거 => 다시 검증 과정을 거치면서 만료 처리됨
+            if (cached.expiresAt() <= System.currentTimeMillis()) {
+                cache.remove(token);
+                return null;
+            }
+
+            return cached.principal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(String token, JwtPrincipal principal, long expiresAt) {
+        lock.lock();
+        try {
+            cache.put(token, new CachedPrincipal(principal, expiresAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // nickName은 채팅 발신자 이름 등 컨트롤러에서 사용하므로 함께 저장
+    public record JwtPrincipal(Long id, UserRole role, String email, String nickName) {}
+
+    private record CachedPrincipal(JwtPrincipal principal, long expiresAt) {}
+}
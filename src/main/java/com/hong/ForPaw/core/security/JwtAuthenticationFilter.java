@@ -5,7 +5,7 @@ import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.hong.ForPaw.domain.User.UserRole;
 import com.hong.ForPaw.domain.User.User;
-import com.hong.ForPaw.service.RedisService;
+import com.hong.ForPaw.service.VisitService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,17 +19,17 @@ import org.springframework.security.web.authentication.www.BasicAuthenticationFi
 
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 @Slf4j
 public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
-    private RedisService redisService;
+    private VisitService visitService;
+    private JwtAuthenticationCache authenticationCache;
 
-    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, RedisService redisService) {
+    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, VisitService visitService, JwtAuthenticationCache authenticationCache) {
         super(authenticationManager);
-        this.redisService = redisService;
+        this.visitService = visitService;
+        this.authenticationCache = authenticationCache;
     }
 
     @Override
@@ -42,14 +42,24 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
         }
 
         try {
-            DecodedJWT decodedJWT = JWTProvider.verify(jwt);
+            String token = JWTProvider.resolveToken(jwt);
 
-            Long id = decodedJWT.getClaim("id").asLong();
-            UserRole userRole = decodedJWT.getClaim("role").as(UserRole.class);
-            String nickName = decodedJWT.getClaim("nickName").asString();
-            User user = User.builder().id(id).role(userRole).nickName(nickName).build();
+            // 최근에 검증한 토큰이면 캐시된 클레임을 사용하고, 사용자 정보와 인증 객체는 요청마다 새로 만든다
+            JwtAuthenticationCache.JwtPrincipal principal = authenticationCache.get(token);
+            if (principal == null) {
+                principal = authenticate(token);
+            }
 
+            User user = User.builder()
+                    .id(principal.id())
+                    .role(principal.role())
+                    .email(principal.email())
+                    .nickName(principal.nickName())
+                    .build();
             CustomUserDetails myUserDetails = new CustomUserDetails(user);
+
+            visitService.recordVisit(myUserDetails.getUser().getId());
+
             Authentication authentication =
                     new UsernamePasswordAuthenticationToken(
                             myUserDetails,
@@ -57,8 +67,6 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
                             myUserDetails.getAuthorities()
                     );
 
-            redisService.addSetElement(createVisitKey(), id);
-
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (SignatureVerificationException sve) {
             log.error("토큰 검증 실패");
@@ -69,10 +77,18 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
         }
     }
 
-    private String createVisitKey() {
-        LocalDateTime now = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH");
+    // 토큰 검증 후 클레임을 캐시에 저장 (토큰 만료 시간까지만 유효)
+    private JwtAuthenticationCache.JwtPrincipal authenticate(String token) {
+        DecodedJWT decodedJWT = JWTProvider.verify(token);
+
+        Long id = decodedJWT.getClaim("id").asLong();
+        UserRole userRole = decodedJWT.getClaim("role").as(UserRole.class);
+        String email = decodedJWT.getSubject();
+        String nickName = decodedJWT.getClaim("nickName").asString();
+
+        JwtAuthenticationCache.JwtPrincipal principal = new JwtAuthenticationCache.JwtPrincipal(id, userRole, email, nickName);
+        authenticationCache.put(token, principal, decodedJWT.getExpiresAt().getTime());
 
-        return "visit" + ":" + now.format(formatter);
+        return principal;
     }
 }
\ No newline at end of file
@@ -4,7 +4,7 @@ package com.hong.ForPaw.core.security;
 import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.core.errors.ExceptionCode;
 import com.hong.ForPaw.core.utils.FilterResponseUtils;
-import com.hong.ForPaw.service.RedisService;
+import com.hong.ForPaw.service.VisitService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,7 +30,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final RedisService redisService;
+    private final VisitService visitService;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -44,7 +45,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(AuthenticationManager authenticationManager) {
-        return new JwtAuthenticationFilter(authenticationManager, redisService);
+        return new JwtAuthenticationFilter(authenticationManager, visitService, jwtAuthenticationCache);
     }
 
     @Bean
@@ -0,0 +1,52 @@
+package com.hong.ForPaw.domain.Alarm;
+
+import com.hong.ForPaw.domain.TimeStamp;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 발행 대기 중인 알람. 비즈니스 로직과 같은 트랜잭션으로 저장되고, 커밋된 것만 릴레이가 RabbitMQ로 발행
+@Entity
+@Table(name = "alarmOutbox_tb")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AlarmOutbox extends TimeStamp {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 라우팅 키에 사용할 유저 id ("user.{routingId}" 큐로 전달)
+    @Column
+    private Long routingId;
+
+    @Column
+    private Long receiverId;
+
+    @Column
+    private String content;
+
+    @Column
+    private String redirectURL;
+
+    @Column
+    private LocalDateTime date;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private AlarmType alarmType;
+
+    @Builder
+    public AlarmOutbox(Long routingId, Long receiverId, String content, String redirectURL, LocalDateTime date, AlarmType alarmType) {
+        this.routingId = routingId;
+        this.receiverId = receiverId;
+        this.content = content;
+        this.redirectURL = redirectURL;
+        this.date = date;
+        this.alarmType = alarmType;
+    }
+}
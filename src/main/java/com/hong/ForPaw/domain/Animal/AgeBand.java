@@ -0,0 +1,46 @@
+package com.hong.ForPaw.domain.Animal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@AllArgsConstructor
+@Getter
+public enum AgeBand {
+
+    baby("1살 미만"),
+    young("1~2살"),
+    adult("3~7살"),
+    senior("8살 이상"),
+    unknown("알 수 없음");
+
+    private static final Pattern YEAR_PATTERN = Pattern.compile("(\\d{4})");
+
+    private String value;
+
+    // age는 "2021(년생)" 형태
+    public static AgeBand from(String age) {
+        if (age == null) {
+            return unknown;
+        }
+
+        Matcher matcher = YEAR_PATTERN.matcher(age);
+        if (!matcher.find()) {
+            return unknown;
+        }
+
+        int years = LocalDate.now().getYear() - Integer.parseInt(matcher.group(1));
+        if (years < 1) {
+            return baby;
+        } else if (years < 3) {
+            return young;
+        } else if (years < 8) {
+            return adult;
+        }
+
+        return senior;
+    }
+}
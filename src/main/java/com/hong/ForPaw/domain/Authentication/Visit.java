@@ -1,6 +1,5 @@
 package com.hong.ForPaw.domain.Authentication;
 
-import com.hong.ForPaw.domain.User.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,8 +8,11 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+// 방문자 한 명당 한 행이 아닌, 시간별/일별로 집계된 방문자 수를 저장
 @Entity
-@Table(name = "visit_tb")
+@Table(name = "visit_tb", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"type", "date"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Visit {
@@ -19,16 +21,24 @@ public class Visit {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id")
-    private User user;
+    @Column
+    @Enumerated(EnumType.STRING)
+    private VisitType type;
 
     @Column
     private LocalDateTime date;
 
+    @Column
+    private Long visitorNum;
+
     @Builder
-    public Visit(User user, LocalDateTime date) {
-        this.user = user;
+    public Visit(VisitType type, LocalDateTime date, Long visitorNum) {
+        this.type = type;
         this.date = date;
+        this.visitorNum = visitorNum;
+    }
+
+    public void updateVisitorNum(Long visitorNum){
+        this.visitorNum = visitorNum;
     }
 }
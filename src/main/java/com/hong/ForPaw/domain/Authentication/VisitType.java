@@ -0,0 +1,14 @@
+package com.hong.ForPaw.domain.Authentication;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum VisitType {
+
+    HOURLY("시간별"),
+    DAILY("일별");
+
+    private String value;
+}
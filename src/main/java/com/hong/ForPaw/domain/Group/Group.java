@@ -9,6 +9,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "groups_tb")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,6 +48,9 @@ public class Group extends TimeStamp {
     @Column
     private Long likeNum = 0L;
 
+    @Column(name = "deleting_at") // 삭제 요청 시각 (연관 데이터는 백그라운드에서 정리)
+    private LocalDateTime deletingAt;
+
     @Builder
     public Group(String name, Province province, District district, String subDistrict, String description, String category, String profileURL) {
         this.name = name;
@@ -66,4 +71,8 @@ public class Group extends TimeStamp {
         this.category = category;
         this.profileURL = profileURL;
     }
+
+    public void markDeleting(){
+        this.deletingAt = LocalDateTime.now();
+    }
 }
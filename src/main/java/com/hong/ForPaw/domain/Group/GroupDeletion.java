@@ -0,0 +1,67 @@
+package com.hong.ForPaw.domain.Group;
+
+import com.hong.ForPaw.domain.TimeStamp;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 진행 중인 그룹 삭제 작업. 단계와 처리한 행 수를 청크마다 함께 저장하므로, 서버가 재시작되어도 이어서 진행된다
+@Entity
+@Table(name = "groupDeletion_tb")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class GroupDeletion extends TimeStamp {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true)
+    private Long groupId;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private GroupDeletionStage stage = GroupDeletionStage.MEETING_USER;
+
+    @Column
+    private Long processedNum = 0L; // 지금까지 지운 행 수
+
+    @Column
+    private Integer attemptNum = 0; // 실패한 횟수 (많이 실패한 작업일수록 뒤로 밀린다)
+
+    @Column
+    private String lastError;
+
+    @Column
+    private LocalDateTime failedAt; // 최대 실패 횟수에 도달한 시각. 값이 있으면 더 이상 자동으로 재시도하지 않는다
+
+    @Builder
+    public GroupDeletion(Long groupId) {
+        this.groupId = groupId;
+    }
+
+    public void addProcessedNum(int num){
+        this.processedNum += num;
+    }
+
+    public void recordFailure(String error, int maxAttemptNum){
+        this.attemptNum++;
+        this.lastError = error;
+
+        if(this.attemptNum >= maxAttemptNum){
+            this.failedAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isFailed(){
+        return this.failedAt != null;
+    }
+
+    public void nextStage(){
+        this.stage = GroupDeletionStage.values()[this.stage.ordinal() + 1];
+    }
+}
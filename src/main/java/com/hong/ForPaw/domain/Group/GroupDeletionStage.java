@@ -0,0 +1,27 @@
+package com.hong.ForPaw.domain.Group;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 그룹 삭제 작업의 진행 단계 (선언 순서대로 처리, 자식 데이터부터 지운다)
+@AllArgsConstructor
+@Getter
+public enum GroupDeletionStage {
+
+    MEETING_USER("모임 참여자"),
+    MEETING("모임"),
+    FAVORITE_GROUP("그룹 좋아요"),
+    GROUP_USER("그룹 멤버"),
+    POST_LIKE("게시글 좋아요"),
+    POST_READ_STATUS("게시글 읽음 기록"),
+    COMMENT_LIKE("댓글 좋아요"),
+    COMMENT("댓글"),
+    POST("게시글"),
+    POST_GROUP("게시글 그룹 연결 해제"), // 소프트 삭제된 게시글이 그룹을 참조하고 있으면 그룹을 지울 수 없다
+    CHAT_USER("채팅방 참여자"),
+    CHAT_IMAGE("채팅 이미지"),
+    CHAT_ROOM("채팅방"),
+    GROUP("그룹");
+
+    private String description;
+}
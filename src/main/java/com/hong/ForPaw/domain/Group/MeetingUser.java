@@ -11,7 +11,9 @@ import org.hibernate.annotations.BatchSize;
 
 
 @Entity
-@Table(name = "meetingUser_tb")
+@Table(name = "meetingUser_tb", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"meeting_id", "user_id"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class MeetingUser extends TimeStamp {
@@ -47,6 +47,9 @@ public class Comment extends TimeStamp {
     @Column(name = "removed_at")
     private LocalDateTime removedAt;
 
+    @Column(name = "hidden_at") // 신고 누적으로 숨김 처리된 시각
+    private LocalDateTime hiddenAt;
+
     // 연관 관계 메서드
     public void addChildComment(Comment child) {
         this.children.add(child);
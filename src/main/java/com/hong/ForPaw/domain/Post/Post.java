@@ -65,9 +65,15 @@ public class Post extends TimeStamp {
     @Column
     private Long commentNum = 0L;
 
+    @Column
+    private Long viewNum = 0L;
+
     @Column(name = "removed_at")
     private LocalDateTime removedAt;
 
+    @Column(name = "hidden_at") // 신고 누적으로 숨김 처리된 시각
+    private LocalDateTime hiddenAt;
+
     @Builder
     public Post(User user, Group group, PostType postType, String title, String content) {
         this.user = user;
@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
-@Table(name = "postReadStatus_tb")
+@Table(name = "postReadStatus_tb", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"user_id", "post_id"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class PostReadStatus extends TimeStamp {
@@ -0,0 +1,31 @@
+package com.hong.ForPaw.domain.Storage;
+
+import com.hong.ForPaw.domain.TimeStamp;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 삭제 대기 중인 S3 오브젝트 (트랜잭션과 함께 저장되고, 백그라운드 작업이 S3에서 지운 뒤 제거)
+@Entity
+@Table(name = "objectDeletion_tb")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ObjectDeletion extends TimeStamp {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column
+    private String objectKey;
+
+    @Column
+    private Integer retryNum = 0;
+
+    @Builder
+    public ObjectDeletion(String objectKey) {
+        this.objectKey = objectKey;
+    }
+}
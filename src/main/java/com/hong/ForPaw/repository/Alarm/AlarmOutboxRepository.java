@@ -0,0 +1,22 @@
+package com.hong.ForPaw.repository.Alarm;
+
+import com.hong.ForPaw.domain.Alarm.AlarmOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AlarmOutboxRepository extends JpaRepository<AlarmOutbox, Long> {
+
+    @Query("SELECT ao FROM AlarmOutbox ao ORDER BY ao.id ASC")
+    List<AlarmOutbox> findPending(Pageable pageable);
+
+    // 가장 오래 기다린 알람의 생성 시간 (릴레이 지연 측정용)
+    @Query("SELECT MIN(ao.createdDate) FROM AlarmOutbox ao")
+    Optional<LocalDateTime> findOldestCreatedDate();
+}
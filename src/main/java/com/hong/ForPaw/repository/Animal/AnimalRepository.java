@@ -23,15 +23,9 @@ public interface AnimalRepository extends JpaRepository<Animal, Long> {
     @Query("SELECT a FROM Animal a WHERE a.removedAt IS NULL")
     Page<Animal> findAll(Pageable pageable);
 
-    @Query("SELECT a.id FROM Animal a WHERE a.removedAt IS NULL")
-    Page<Long> findAllIds(Pageable pageable);
-
     @Query("SELECT a.id FROM Animal a WHERE a.removedAt IS NULL")
     List<Long> findAllIds();
 
-    @Query("SELECT a FROM Animal a WHERE (:category IS NULL OR a.category = :category) AND a.removedAt IS NULL")
-    Page<Animal> findAllByCategory(@Param("category") AnimalType category, Pageable pageable);
-
     @Query("SELECT a FROM Animal a WHERE a.id = :id AND a.removedAt IS NULL")
     Optional<Animal> findById(@Param("id") Long id);
 
@@ -44,11 +38,14 @@ public interface AnimalRepository extends JpaRepository<Animal, Long> {
     @Query("SELECT a FROM Animal a WHERE a.noticeEdt < :date AND a.removedAt IS NULL")
     List<Animal> findAllOutOfDate(LocalDate date);
 
-    @Query("SELECT a.id FROM Animal a WHERE a.shelter.regionCode.orgName = :district ORDER BY a.id ASC")
-    List<Long> findAnimalIdsByDistrict(District district, Pageable pageable);
+    // 필터 인덱스 생성용 (최신순)
+    @Query("SELECT a.id AS id, a.category AS category, r.uprName AS province, a.gender AS gender, a.neuter AS neuter, a.age AS age, s.id AS shelterId " +
+            "FROM Animal a LEFT JOIN a.shelter s LEFT JOIN s.regionCode r WHERE a.removedAt IS NULL ORDER BY a.id DESC")
+    List<AnimalFacetProjection> findAllFacets();
 
-    @Query("SELECT a.id FROM Animal a WHERE a.shelter.regionCode.uprName = :province ORDER BY a.id ASC")
-    List<Long> findAnimalIdsByProvince(Province province, Pageable pageable);
+    // 지역별 추천 후보 생성용
+    @Query("SELECT a.id AS id, r.uprName AS province, r.orgName AS district FROM Animal a JOIN a.shelter s JOIN s.regionCode r WHERE a.removedAt IS NULL ORDER BY a.id ASC")
+    List<AnimalRegionProjection> findAllRegions();
 
     @Query("SELECT COUNT(a) > 0 FROM Animal a WHERE a.id = :animalId AND a.removedAt IS NULL")
     boolean existsById(@Param("animalId") Long animalId);
@@ -64,7 +61,39 @@ public interface AnimalRepository extends JpaRepository<Animal, Long> {
     @Query("SELECT COUNT(a) FROM Animal a WHERE a.removedAt IS NULL")
     Long countAnimal();
 
+    // 유사도 인덱스 생성용, 특징 벡터에 쓰는 컬럼만 조회
+    @Query("SELECT a.id AS id, a.kind AS kind, a.color AS color, a.age AS age, a.gender AS gender, a.region AS region, a.specialMark AS specialMark, a.happenPlace AS happenPlace " +
+            "FROM Animal a WHERE a.removedAt IS NULL")
+    List<AnimalFeatureProjection> findAllFeatures();
+
     @Modifying
     @Query("UPDATE Animal a SET a.likeNum = :likeNum WHERE a.id = :animalId AND a.removedAt IS NULL")
     void updateLikeNum(@Param("likeNum") Long likeNum, @Param("animalId") Long animalId);
+
+    interface AnimalFacetProjection {
+        Long getId();
+        AnimalType getCategory();
+        Province getProvince();
+        String getGender();
+        String getNeuter();
+        String getAge();
+        Long getShelterId();
+    }
+
+    interface AnimalRegionProjection {
+        Long getId();
+        Province getProvince();
+        District getDistrict();
+    }
+
+    interface AnimalFeatureProjection {
+        Long getId();
+        String getKind();
+        String getColor();
+        String getAge();
+        String getGender();
+        String getRegion();
+        String getSpecialMark();
+        String getHappenPlace();
+    }
 }
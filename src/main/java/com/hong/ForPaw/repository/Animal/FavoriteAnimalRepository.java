@@ -5,10 +5,12 @@ import com.hong.ForPaw.domain.Animal.FavoriteAnimal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +24,14 @@ public interface FavoriteAnimalRepository extends JpaRepository<FavoriteAnimal,
 
     @Query("SELECT fa.animal.id FROM FavoriteAnimal fa WHERE fa.user.id = :userId")
     List<Long> findLikedAnimalIdsByUserId(@Param("userId") Long userId);
-}
+
+    @Query("SELECT fa.user.id FROM FavoriteAnimal fa WHERE fa.animal.id = :animalId")
+    List<Long> findUserIdsByAnimalId(@Param("animalId") Long animalId);
+
+    @Query("SELECT fa.user.id FROM FavoriteAnimal fa WHERE fa.animal.id = :animalId AND fa.user.id IN :userIds")
+    List<Long> findUserIdsByAnimalIdAndUserIds(@Param("animalId") Long animalId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM FavoriteAnimal fa WHERE fa.animal.id = :animalId AND fa.user.id IN :userIds")
+    void deleteByAnimalIdAndUserIds(@Param("animalId") Long animalId, @Param("userIds") Collection<Long> userIds);
+}
\ No newline at end of file
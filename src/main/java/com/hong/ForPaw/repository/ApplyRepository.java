@@ -1,6 +1,7 @@
 package com.hong.ForPaw.repository;
 
 import com.hong.ForPaw.domain.Apply.Apply;
+import com.hong.ForPaw.domain.Apply.ApplyStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -43,5 +44,11 @@ public interface ApplyRepository extends JpaRepository<Apply, Long> {
     @Query("SELECT a.animal.id FROM Apply a WHERE a.id = :applyId AND a.removedAt IS NULL")
     Long findAnimalIdById(@Param("applyId") Long applyId);
 
+    @Query("SELECT a.status FROM Apply a WHERE a.id = :applyId AND a.removedAt IS NULL")
+    ApplyStatus findStatusById(@Param("applyId") Long applyId);
+
+    @Query("SELECT a.status FROM Apply a WHERE a.user.id = :userId AND a.removedAt IS NULL")
+    List<ApplyStatus> findStatusesByUserId(@Param("userId") Long userId);
+
     void deleteAllByUserId(Long userId);
 }
\ No newline at end of file
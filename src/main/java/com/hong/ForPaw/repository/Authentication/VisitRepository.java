@@ -1,16 +1,22 @@
 package com.hong.ForPaw.repository.Authentication;
 
 import com.hong.ForPaw.domain.Authentication.Visit;
+import com.hong.ForPaw.domain.Authentication.VisitType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VisitRepository extends JpaRepository<Visit, Long> {
 
-    @Query("SELECT v FROM Visit v WHERE v.date >= :date")
-    List<Visit> findALlWithinDate(LocalDateTime date);
+    @Query("SELECT v FROM Visit v WHERE v.type = :type AND v.date >= :date ORDER BY v.date")
+    List<Visit> findAllByTypeWithinDate(@Param("type") VisitType type, @Param("date") LocalDateTime date);
+
+    @Query("SELECT v FROM Visit v WHERE v.type = :type AND v.date = :date")
+    Optional<Visit> findByTypeAndDate(@Param("type") VisitType type, @Param("date") LocalDateTime date);
 }
@@ -4,10 +4,18 @@ import com.hong.ForPaw.domain.Chat.ChatImage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ChatImageRepository extends JpaRepository<ChatImage, Long> {
 
     Page<ChatImage> findByChatRoomId(Long chatRoomId, Pageable pageable);
+
+    // 그룹 삭제 작업에서 limit개씩 나눠서 삭제
+    @Modifying
+    @Query(value = "DELETE FROM chat_image_tb WHERE chat_room_id IN (SELECT id FROM chat_room_tb WHERE group_id = :groupId) LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
 }
\ No newline at end of file
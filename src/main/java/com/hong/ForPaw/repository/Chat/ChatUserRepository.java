@@ -13,7 +13,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ChatUserRepository extends JpaRepository<ChatUser, Long> {
+public interface ChatUserRepository extends JpaRepository<ChatUser, Long>, ChatUserRepositoryCustom {
 
     Optional<ChatUser> findByUserIdAndChatRoom(Long userId, ChatRoom chatRoom);
 
@@ -23,9 +23,10 @@ public interface ChatUserRepository extends JpaRepository<ChatUser, Long> {
     @Query("SELECT cu FROM ChatUser cu WHERE cu.user.id = :userId")
     List<ChatUser> findByUserIdWithChatRoom(Long userId);
 
+    // 그룹 삭제 작업에서 limit개씩 나눠서 삭제
     @Modifying
-    @Query("DELETE FROM ChatUser cu WHERE cu.chatRoom.id IN (SELECT cr.id FROM ChatRoom cr WHERE cr.group.id = :groupId)")
-    void deleteAllByGroupId(@Param("groupId") Long groupId);
+    @Query(value = "DELETE FROM chat_user_tb WHERE chat_room_id IN (SELECT id FROM chat_room_tb WHERE group_id = :groupId) LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
 
     void deleteAllByUserId(Long userId);
 }
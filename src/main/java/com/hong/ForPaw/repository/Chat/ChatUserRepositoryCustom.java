@@ -0,0 +1,9 @@
+package com.hong.ForPaw.repository.Chat;
+
+import java.util.List;
+
+// JPA의 saveAll은 IDENTITY 전략이라 한 행씩 INSERT 하므로, 여러 명을 한 번에 참여시킬 때는 JDBC로 직접 저장
+public interface ChatUserRepositoryCustom {
+
+    void insertAll(Long chatRoomId, List<Long> userIds);
+}
@@ -0,0 +1,41 @@
+package com.hong.ForPaw.repository.Chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ChatUserRepositoryImpl implements ChatUserRepositoryCustom {
+
+    private static final int INSERT_CHUNK_SIZE = 500; // 한 INSERT 문에 넣는 최대 행 수
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 여러 행을 하나의 INSERT 문으로 저장 (JPA 감사 필드가 채워지지 않으므로 생성/수정 시간을 직접 넣는다)
+    @Override
+    public void insertAll(Long chatRoomId, List<Long> userIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < userIds.size(); from += INSERT_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + INSERT_CHUNK_SIZE, userIds.size()));
+
+            String sql = "INSERT INTO chat_user_tb (user_id, chat_room_id, last_message_id, last_message_idx, created_date, updated_date) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, 0, 0, ?, ?)"));
+
+            List<Object> args = new ArrayList<>();
+            for (Long userId : chunk) {
+                args.add(userId);
+                args.add(chatRoomId);
+                args.add(now);
+                args.add(now);
+            }
+
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+}
@@ -3,10 +3,12 @@ package com.hong.ForPaw.repository.Group;
 import com.hong.ForPaw.domain.Group.FavoriteGroup;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,8 +21,21 @@ public interface FavoriteGroupRepository extends JpaRepository<FavoriteGroup, Lo
     @Query("SELECT fg FROM FavoriteGroup fg WHERE fg.user.id = :userId")
     List<FavoriteGroup> findAllByUserIdWithGroup(Long userId);
 
-    void deleteAllByGroupId(Long groupId);
+    // 그룹 삭제 작업에서 limit개씩 나눠서 삭제
+    @Modifying
+    @Query(value = "DELETE FROM favorite_group_tb WHERE group_id = :groupId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
 
     @Query("SELECT fg.group.id FROM FavoriteGroup fg WHERE fg.user.id = :userId")
     List<Long> findLikedGroupIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT fg.user.id FROM FavoriteGroup fg WHERE fg.group.id = :groupId")
+    List<Long> findUserIdsByGroupId(@Param("groupId") Long groupId);
+
+    @Query("SELECT fg.user.id FROM FavoriteGroup fg WHERE fg.group.id = :groupId AND fg.user.id IN :userIds")
+    List<Long> findUserIdsByGroupIdAndUserIds(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM FavoriteGroup fg WHERE fg.group.id = :groupId AND fg.user.id IN :userIds")
+    void deleteByGroupIdAndUserIds(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.hong.ForPaw.repository.Group;
+
+import com.hong.ForPaw.domain.Group.GroupDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GroupDeletionRepository extends JpaRepository<GroupDeletion, Long> {
+
+    // 실패한 작업이 뒤의 작업을 막지 않도록 실패 횟수가 적은 순서로 처리 (최대 실패 횟수에 도달한 작업은 제외)
+    @Query("SELECT gd FROM GroupDeletion gd WHERE gd.failedAt IS NULL ORDER BY gd.attemptNum ASC, gd.id ASC")
+    List<GroupDeletion> findPending(Pageable pageable);
+
+    @Query("SELECT COUNT(gd) FROM GroupDeletion gd WHERE gd.failedAt IS NULL")
+    Long countPending();
+
+    @Query("SELECT gd FROM GroupDeletion gd WHERE gd.failedAt IS NOT NULL ORDER BY gd.failedAt DESC")
+    List<GroupDeletion> findFailed();
+
+    boolean existsByGroupId(Long groupId);
+}
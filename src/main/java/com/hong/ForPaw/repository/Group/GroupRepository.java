@@ -12,36 +12,73 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
 
-    @Query("SELECT g FROM Group g WHERE g.province = :province AND g.district = :district")
+    @Query("SELECT g FROM Group g WHERE g.id = :id AND g.deletingAt IS NULL")
+    Optional<Group> findById(@Param("id") Long id);
+
+    @Query("SELECT COUNT(g) > 0 FROM Group g WHERE g.id = :id AND g.deletingAt IS NULL")
+    boolean existsById(@Param("id") Long id);
+
+    @Query("SELECT g FROM Group g WHERE g.province = :province AND g.district = :district AND g.deletingAt IS NULL")
     Page<Group> findByDistrictAndSubDistrict(@Param("province") Province province, @Param("district") District district, Pageable pageable);
 
-    @Query("SELECT g FROM Group g WHERE g.province = :province")
+    @Query("SELECT g FROM Group g WHERE g.province = :province AND g.deletingAt IS NULL")
     Page<Group> findByProvince(@Param("province") Province province, Pageable pageable);
 
+    // 카운트 쿼리 없이 조회 (그룹 홈 화면용)
+    @Query("SELECT g FROM Group g WHERE g.province = :province AND g.district = :district AND g.deletingAt IS NULL")
+    List<Group> findGroupsByProvinceAndDistrict(@Param("province") Province province, @Param("district") District district, Pageable pageable);
+
+    @Query("SELECT g FROM Group g WHERE g.province = :province AND g.deletingAt IS NULL")
+    List<Group> findGroupsByProvince(@Param("province") Province province, Pageable pageable);
+
     boolean existsByName(String name);
 
     @Query("SELECT COUNT(g) > 0 FROM Group g WHERE g.id != :id AND g.name = :name")
     boolean existsByNameExcludingId(@Param("name") String name, @Param("id") Long id);
 
-    @Query(value = "SELECT * FROM groups_tb WHERE MATCH(name) AGAINST(:name IN BOOLEAN MODE)", nativeQuery = true)
+    @Query(value = "SELECT * FROM groups_tb WHERE MATCH(name) AGAINST(:name IN BOOLEAN MODE) AND deleting_at IS NULL", nativeQuery = true)
     List<Group> findByNameContaining(@Param("name") String name);
 
-    @Query("SELECT g.id FROM Group g")
+    @Query("SELECT g.id FROM Group g WHERE g.deletingAt IS NULL")
     List<Long> findGroupIds();
 
+    @Query("SELECT g.province FROM Group g WHERE g.id = :groupId")
+    Optional<Province> findProvinceById(@Param("groupId") Long groupId);
+
+    // 추천 후보 점수 계산에 필요한 컬럼만 조회
+    @Query("SELECT g.id AS id, g.province AS province, g.likeNum AS likeNum, g.participantNum AS participantNum FROM Group g WHERE g.deletingAt IS NULL")
+    List<RecommendSourceProjection> findRecommendSources();
+
     @Modifying
     @Query("UPDATE Group g SET g.participantNum = g.participantNum + 1 WHERE g.id = :groupId")
     void incrementParticipantNum(@Param("groupId") Long groupId);
 
+    @Modifying
+    @Query("UPDATE Group g SET g.participantNum = g.participantNum + :num WHERE g.id = :groupId")
+    void incrementParticipantNumBy(@Param("groupId") Long groupId, @Param("num") Long num);
+
     @Modifying
     @Query("UPDATE Group g SET g.participantNum = g.participantNum - 1 WHERE g.id = :groupId AND g.participantNum > 0")
     void decrementParticipantNum(@Param("groupId") Long groupId);
 
+    // 연관 데이터 정리가 끝난 그룹을 삭제 (삭제 작업에서만 사용)
+    @Modifying
+    @Query("DELETE FROM Group g WHERE g.id = :groupId AND g.deletingAt IS NOT NULL")
+    void deleteDeletingGroup(@Param("groupId") Long groupId);
+
     @Modifying
     @Query("UPDATE Group g SET g.likeNum = :likeNum WHERE g.id = :groupId")
     void updateLikeNum(@Param("likeNum") Long likeNum, @Param("groupId") Long groupId);
+
+    interface RecommendSourceProjection {
+        Long getId();
+        Province getProvince();
+        Long getLikeNum();
+        Long getParticipantNum();
+    }
 }
@@ -14,6 +14,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +24,9 @@ public interface GroupUserRepository extends JpaRepository<GroupUser, Long> {
 
     Optional<GroupUser> findByGroupIdAndUserId(Long groupId, Long userId);
 
+    @Query("SELECT gu.groupRole FROM GroupUser gu WHERE gu.group.id = :groupId AND gu.user.id = :userId")
+    Optional<GroupRole> findRoleByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
     List<GroupUser> findAllByUserId(Long userId);
 
     @EntityGraph(attributePaths = {"group"})
@@ -31,26 +36,61 @@ public interface GroupUserRepository extends JpaRepository<GroupUser, Long> {
     @Query("SELECT gu.user FROM GroupUser gu WHERE gu.group.id = :groupId AND gu.user.id NOT IN (:myId)")
     List<User> findAllUsersByGroupIdWithoutMe(@Param("groupId") Long groupId, @Param("myId") Long myId);
 
-    @Query("SELECT gu.group FROM GroupUser gu WHERE gu.user.id = :userId")
-    List<Group> findAllGroupByUserId(@Param("userId") Long userId);
+    @Query("SELECT gu.group.id FROM GroupUser gu WHERE gu.user.id = :userId")
+    List<Long> findGroupIdsByUserId(@Param("userId") Long userId);
+
+    // 카운트 쿼리 없이 조회 (그룹 홈 화면용)
+    @Query("SELECT gu.group FROM GroupUser gu WHERE gu.user.id = :userId AND gu.group.deletingAt IS NULL")
+    List<Group> findGroupsByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("SELECT gu.group FROM GroupUser gu WHERE gu.user.id = :userId")
+    @Query("SELECT gu.group FROM GroupUser gu WHERE gu.user.id = :userId AND gu.group.deletingAt IS NULL")
     Page<Group> findAllGroupByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"user"})
-    @Query("SELECT gu FROM GroupUser gu WHERE gu.group.id = :groupId")
-    List<GroupUser> findByGroupIdWithUser(@Param("groupId") Long groupId);
+    // 가입된 회원 목록 (그룹장, 관리자, 유저 순서로, 같은 역할은 먼저 가입한 순서), groupRole은 ordinal로 저장됨
+    @Query("SELECT gu.user.id AS id, gu.user.nickName AS nickName, gu.groupRole AS groupRole, gu.user.profileURL AS profileURL " +
+            "FROM GroupUser gu WHERE gu.group.id = :groupId AND gu.groupRole <> com.hong.ForPaw.domain.Group.GroupRole.TEMP " +
+            "ORDER BY gu.groupRole DESC, gu.createdDate ASC, gu.id ASC")
+    List<MemberProjection> findMembersByGroupId(@Param("groupId") Long groupId, Pageable pageable);
 
-    @Query("SELECT COUNT(gu) > 0 FROM GroupUser gu WHERE gu.group.id = :groupId AND gu.user.id = :userId")
-    boolean existsByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") Long userId);
+    // 가입 신청자 목록 (먼저 신청한 순서)
+    @Query("SELECT gu.user.id AS id, gu.user.nickName AS nickName, gu.user.profileURL AS profileURL, gu.greeting AS greeting, gu.createdDate AS createdDate " +
+            "FROM GroupUser gu WHERE gu.group.id = :groupId AND gu.groupRole = com.hong.ForPaw.domain.Group.GroupRole.TEMP " +
+            "ORDER BY gu.createdDate ASC, gu.id ASC")
+    List<ApplicantProjection> findApplicantsByGroupId(@Param("groupId") Long groupId, Pageable pageable);
 
     @Modifying
     @Query("UPDATE GroupUser gu SET gu.groupRole = :groupRole WHERE gu.group.id = :groupId AND gu.user.id = :userId")
     void updateRole(@Param("groupRole") GroupRole groupRole, @Param("groupId") Long groupId, @Param("userId") Long userId);
 
+    @Query("SELECT gu.user.id FROM GroupUser gu WHERE gu.group.id = :groupId AND gu.user.id IN :userIds AND gu.groupRole = com.hong.ForPaw.domain.Group.GroupRole.TEMP")
+    List<Long> findApplicantIdsByGroupIdAndUserIds(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
+    // 신청 상태인 행만 승인, 변경된 행 수 반환
+    @Modifying
+    @Query("UPDATE GroupUser gu SET gu.groupRole = com.hong.ForPaw.domain.Group.GroupRole.USER WHERE gu.group.id = :groupId AND gu.user.id IN :userIds AND gu.groupRole = com.hong.ForPaw.domain.Group.GroupRole.TEMP")
+    int approveApplicants(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
     void deleteByGroupIdAndUserId(Long groupId, Long userId);
 
-    void deleteAllByGroupId(Long groupId);
+    // 그룹 삭제 작업에서 limit개씩 나눠서 삭제
+    @Modifying
+    @Query(value = "DELETE FROM group_user_tb WHERE group_id = :groupId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
 
     void deleteAllByUserId(Long userId);
-}
\ No newline at end of file
+
+    interface MemberProjection {
+        Long getId();
+        String getNickName();
+        GroupRole getGroupRole();
+        String getProfileURL();
+    }
+
+    interface ApplicantProjection {
+        Long getId();
+        String getNickName();
+        String getProfileURL();
+        String getGreeting();
+        LocalDateTime getCreatedDate();
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -18,15 +19,32 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     boolean existsById(Long id);
 
-    void deleteAllByGroupId(Long groupId);
+    // 그룹 삭제 작업에서 limit개씩 나눠서 삭제
+    @Modifying
+    @Query(value = "DELETE FROM meeting_tb WHERE group_id = :groupId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
 
     Page<Meeting> findByGroupId(Long groupId, Pageable pageable);
 
+    // 그룹별 최근 생성된 모임 수
+    @Query("SELECT m.group.id AS groupId, COUNT(m) AS count FROM Meeting m WHERE m.createdDate >= :date GROUP BY m.group.id")
+    List<GroupCountProjection> countByGroupWithinDate(@Param("date") LocalDateTime date);
+
     @Modifying
     @Query("UPDATE Meeting m SET m.participantNum = m.participantNum + 1 WHERE m.id = :meetingId")
     void incrementParticipantNum(@Param("meetingId") Long meetingId);
 
+    // 정원이 남아 있을 때만 참가자 수 증가, 변경된 행이 없으면 0 반환 (정원 초과 또는 존재하지 않는 모임)
+    @Modifying
+    @Query("UPDATE Meeting m SET m.participantNum = m.participantNum + 1 WHERE m.id = :meetingId AND (m.maxNum IS NULL OR m.participantNum < m.maxNum)")
+    int reserveSeat(@Param("meetingId") Long meetingId);
+
     @Modifying
     @Query("UPDATE Meeting m SET m.participantNum = m.participantNum - 1 WHERE m.id = :meetingId AND m.participantNum > 0")
     void decrementParticipantNum(@Param("meetingId") Long meetingId);
-}
\ No newline at end of file
+
+    interface GroupCountProjection {
+        Long getGroupId();
+        Long getCount();
+    }
+}
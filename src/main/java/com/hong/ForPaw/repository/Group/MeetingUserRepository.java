@@ -1,7 +1,6 @@
 package com.hong.ForPaw.repository.Group;
 
 import com.hong.ForPaw.domain.Group.MeetingUser;
-import com.hong.ForPaw.domain.User.User;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -14,8 +13,16 @@ import java.util.List;
 @Repository
 public interface MeetingUserRepository extends JpaRepository<MeetingUser, Long> {
 
-    @Query("SELECT mu.user FROM MeetingUser mu WHERE mu.meeting.id = :meetingId")
-    List<User> findUsersByMeetingId(@Param("meetingId") Long meetingId);
+    @Query("SELECT mu.profileURL FROM MeetingUser mu WHERE mu.meeting.id = :meetingId ORDER BY mu.id")
+    List<String> findProfileURLsByMeetingId(@Param("meetingId") Long meetingId);
+
+    // 여러 정모의 참가자 프로필을 정모당 최대 :limit개까지 한 번에 조회 (전체 인원은 Meeting.participantNum 사용)
+    @Query(value = "SELECT r.meeting_id AS meetingId, r.profileurl AS profileURL " +
+            "FROM (SELECT mu.id, mu.meeting_id, mu.profileurl, " +
+            "ROW_NUMBER() OVER (PARTITION BY mu.meeting_id ORDER BY mu.id) AS row_num " +
+            "FROM meeting_user_tb mu WHERE mu.meeting_id IN (:meetingIds)) r " +
+            "WHERE r.row_num <= :limit ORDER BY r.meeting_id, r.id", nativeQuery = true)
+    List<ParticipantProjection> findParticipantsByMeetingIds(@Param("meetingIds") List<Long> meetingIds, @Param("limit") Integer limit);
 
     @EntityGraph(attributePaths = {"meeting"})
     @Query("SELECT gu FROM GroupUser gu WHERE gu.user.id = :userId")
@@ -28,7 +35,13 @@ public interface MeetingUserRepository extends JpaRepository<MeetingUser, Long>
 
     void deleteAllByMeetingId(Long meetingId);
 
+    // 그룹 삭제 작업에서 limit개씩 나눠서 삭제
     @Modifying
-    @Query("DELETE FROM MeetingUser mu WHERE mu.meeting.id IN (SELECT m.id FROM Meeting m WHERE m.group.id = :groupId)")
-    void deleteAllByGroupId(@Param("groupId") Long groupId);
+    @Query(value = "DELETE FROM meeting_user_tb WHERE meeting_id IN (SELECT id FROM meeting_tb WHERE group_id = :groupId) LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
+
+    interface ParticipantProjection {
+        Long getMeetingId();
+        String getProfileURL();
+    }
 }
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,7 +23,18 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
 
     void deleteAllByCommentId(Long commentId);
 
+    // 그룹 삭제 작업에서 limit개씩 나눠서 삭제
     @Modifying
-    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id IN (SELECT c.id FROM Comment c WHERE c.post.id IN (SELECT p.id FROM Post p WHERE p.group.id = :groupId))")
-    void deleteAllByGroupId(@Param("groupId") Long groupId);
+    @Query(value = "DELETE FROM comment_like_tb WHERE comment_id IN (SELECT c.id FROM comment_tb c JOIN post_tb p ON c.post_id = p.id WHERE p.group_id = :groupId) LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
+
+    @Query("SELECT cl.user.id FROM CommentLike cl WHERE cl.comment.id = :commentId")
+    List<Long> findUserIdsByCommentId(@Param("commentId") Long commentId);
+
+    @Query("SELECT cl.user.id FROM CommentLike cl WHERE cl.comment.id = :commentId AND cl.user.id IN :userIds")
+    List<Long> findUserIdsByCommentIdAndUserIds(@Param("commentId") Long commentId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id = :commentId AND cl.user.id IN :userIds")
+    void deleteByCommentIdAndUserIds(@Param("commentId") Long commentId, @Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.hong.ForPaw.repository.Post;
 
 import com.hong.ForPaw.domain.Post.Comment;
+import com.hong.ForPaw.domain.Province;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,10 +31,28 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c.user.id FROM Comment c WHERE c.id = :commentId AND c.removedAt IS NULL")
     Optional<Long> findUserIdByCommentId(@Param("commentId") Long commentId);
 
-    // 모든 댓글과 대댓글을 한 번에 가져오기
-    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId")
-    @EntityGraph(attributePaths = {"user", "parent"})
-    List<Comment> findAllByPostIdWithUserAndParent(@Param("postId") Long postId);
+    // 부모 댓글을 id 커서 기준으로 페이징 (엔티티 대신 필요한 컬럼만 조회)
+    @Query("SELECT c.id AS id, c.user.nickName AS nickName, c.user.province AS province, c.content AS content, c.createdDate AS createdDate " +
+            "FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL AND c.id > :cursor AND c.removedAt IS NULL AND c.hiddenAt IS NULL ORDER BY c.id ASC")
+    List<CommentProjection> findParentCommentsByPostId(@Param("postId") Long postId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 여러 부모 댓글의 대댓글을 부모당 최대 :limit개까지 한 번에 조회, replyNum은 부모별 전체 대댓글 수
+    @Query(value = "SELECT r.id AS id, r.parent_id AS parentId, r.nick_name AS nickName, r.province AS province, r.content AS content, r.created_date AS createdDate, r.reply_num AS replyNum " +
+            "FROM (SELECT c.id, c.parent_id, u.nick_name, u.province, c.content, c.created_date, " +
+            "ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.id) AS row_num, " +
+            "COUNT(*) OVER (PARTITION BY c.parent_id) AS reply_num " +
+            "FROM comment_tb c JOIN user_tb u ON c.user_id = u.id " +
+            "WHERE c.parent_id IN (:parentIds) AND c.removed_at IS NULL AND c.hidden_at IS NULL) r " +
+            "WHERE r.row_num <= :limit ORDER BY r.parent_id, r.id", nativeQuery = true)
+    List<ReplyProjection> findRepliesByParentIds(@Param("parentIds") List<Long> parentIds, @Param("limit") Integer limit);
+
+    // 특정 부모 댓글의 대댓글 더보기
+    @Query("SELECT c.id AS id, c.parent.id AS parentId, c.user.nickName AS nickName, c.user.province AS province, c.content AS content, c.createdDate AS createdDate, 0L AS replyNum " +
+            "FROM Comment c WHERE c.parent.id = :parentId AND c.id > :cursor AND c.removedAt IS NULL AND c.hiddenAt IS NULL ORDER BY c.id ASC")
+    List<ReplyProjection> findRepliesByParentId(@Param("parentId") Long parentId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT c.user.nickName FROM Comment c WHERE c.id = :commentId AND c.post.id = :postId AND c.parent IS NULL AND c.removedAt IS NULL")
+    Optional<String> findParentNickNameByIdAndPostId(@Param("commentId") Long commentId, @Param("postId") Long postId);
 
     @Query("SELECT COUNT(c) > 0 FROM Comment c WHERE c.id = :id AND c.removedAt IS NULL")
     boolean existsById(Long id);
@@ -39,9 +60,38 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.createdDate >= :date AND c.removedAt IS NULL")
     Long countALlWithinDate(LocalDateTime date);
 
-    void deleteAllByPostId(Long postId);
+    @Modifying
+    @Query("UPDATE Comment c SET c.hiddenAt = NOW() WHERE c.id IN :commentIds AND c.hiddenAt IS NULL")
+    void hideByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.hiddenAt = NULL WHERE c.id = :commentId AND c.hiddenAt IS NOT NULL")
+    int unhideById(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.removedAt = NOW() WHERE c.post.id = :postId AND c.removedAt IS NULL")
+    void deleteAllByPostId(@Param("postId") Long postId);
 
+    // 그룹 삭제 작업에서 limit개씩 나눠서 소프트 삭제
     @Modifying
-    @Query("UPDATE Comment c SET c.removedAt = NOW() WHERE c.post.id IN (SELECT p.id FROM Post p WHERE p.group.id = :groupId )")
-    void deleteAllByGroupId(@Param("groupId") Long groupId);
-}
\ No newline at end of file
+    @Query(value = "UPDATE comment_tb SET removed_at = NOW() WHERE removed_at IS NULL AND post_id IN (SELECT id FROM post_tb WHERE group_id = :groupId) LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
+
+    interface CommentProjection {
+        Long getId();
+        String getNickName();
+        Province getProvince();
+        String getContent();
+        LocalDateTime getCreatedDate();
+    }
+
+    interface ReplyProjection {
+        Long getId();
+        Long getParentId();
+        String getNickName();
+        Province getProvince();
+        String getContent();
+        LocalDateTime getCreatedDate();
+        Long getReplyNum();
+    }
+}
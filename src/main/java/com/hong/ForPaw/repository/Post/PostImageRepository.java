@@ -3,6 +3,8 @@ package com.hong.ForPaw.repository.Post;
 import com.hong.ForPaw.domain.Post.Post;
 import com.hong.ForPaw.domain.Post.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,6 +12,9 @@ import java.util.List;
 @Repository
 public interface PostImageRepository extends JpaRepository<PostImage, Long> {
 
+    @Query("SELECT pi FROM PostImage pi WHERE pi.post.id IN :postIds")
+    List<PostImage> findByPostIds(@Param("postIds") List<Long> postIds);
+
     void deleteByPostId(Long postId);
 
     void deleteByPostIdAndIdNotIn(Long postId, List<Long> retainedImageIds);
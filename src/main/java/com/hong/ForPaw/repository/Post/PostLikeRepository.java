@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,9 +16,22 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     Optional<PostLike> findByUserIdAndPostId(Long userId, Long postId);
 
-    void deleteAllByPostId(Long postId);
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
+
+    // 그룹 삭제 작업에서 limit개씩 나눠서 삭제
+    @Modifying
+    @Query(value = "DELETE FROM post_like_tb WHERE post_id IN (SELECT id FROM post_tb WHERE group_id = :groupId) LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
+
+    @Query("SELECT pl.user.id FROM PostLike pl WHERE pl.post.id = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT pl.user.id FROM PostLike pl WHERE pl.post.id = :postId AND pl.user.id IN :userIds")
+    List<Long> findUserIdsByPostIdAndUserIds(@Param("postId") Long postId, @Param("userIds") Collection<Long> userIds);
 
     @Modifying
-    @Query("DELETE FROM PostLike pl WHERE pl.post.id IN (SELECT p.id FROM Post p WHERE p.group.id = :groupId)")
-    void deleteAllByGroupId(@Param("groupId") Long groupId);
-}
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.user.id IN :userIds")
+    void deleteByPostIdAndUserIds(@Param("postId") Long postId, @Param("userIds") Collection<Long> userIds);
+}
\ No newline at end of file
@@ -8,16 +8,24 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PostReadStatusRepository extends JpaRepository<PostReadStatus, Long> {
 
-    void deleteAllByPostId(Long postId);
+    // 주어진 글 목록 중 유저가 읽은 글의 id만 조회
+    @Query("SELECT prs.post.id FROM PostReadStatus prs WHERE prs.user.id = :userId AND prs.post.id IN :postIds")
+    List<Long> findPostIdsByUserIdAndPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 
     @Modifying
-    @Query("DELETE FROM PostReadStatus prs WHERE prs.post.id IN (SELECT p.id FROM Post p WHERE p.group.id = :groupId)")
-    void deleteAllByGroupId(@Param("groupId") Long groupId);
+    @Query("DELETE FROM PostReadStatus prs WHERE prs.post.id = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
+
+    // 그룹 삭제 작업에서 limit개씩 나눠서 삭제
+    @Modifying
+    @Query(value = "DELETE FROM post_read_status_tb WHERE post_id IN (SELECT id FROM post_tb WHERE group_id = :groupId) LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
 
     void deleteAllByUserId(Long userId);
 }
@@ -13,11 +13,12 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
     @Query("SELECT p FROM Post p WHERE p.removedAt IS NULL")
     List<Post> findAll();
@@ -34,20 +35,29 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p.user.id FROM Post p WHERE p.id = :postId AND p.removedAt IS NULL")
     Optional<Long> findUserIdByPostId(@Param("postId") Long postId);
 
+    @Query("SELECT p.user.id AS userId, p.postType AS postType FROM Post p WHERE p.id = :postId AND p.removedAt IS NULL")
+    Optional<WriterProjection> findWriterByPostId(@Param("postId") Long postId);
+
     @EntityGraph(attributePaths = {"user"})
     @Query("SELECT p FROM Post p WHERE p.group.id = :groupId AND p.removedAt IS NULL")
     Page<Post> findByGroupId(@Param("groupId") Long groupId, Pageable pageable);
 
-    @Query(value = "SELECT * FROM post_tb WHERE MATCH(title) AGAINST(:title IN BOOLEAN MODE) AND removed_at IS NULL", nativeQuery = true)
-    List<Post> findByTitleContaining(@Param("title") String title);
+    // BOOLEAN MODE는 관련도 순으로 정렬되지 않으므로 직접 정렬
+    @Query(value = "SELECT id FROM post_tb WHERE MATCH(title) AGAINST(:title IN BOOLEAN MODE) AND removed_at IS NULL ORDER BY MATCH(title) AGAINST(:title IN BOOLEAN MODE) DESC", nativeQuery = true)
+    List<Long> findIdsByTitleContaining(@Param("title") String title);
 
-    @EntityGraph(attributePaths = {"user"})
-    @Query("SELECT p FROM Post p WHERE p.postType = :postType AND p.removedAt IS NULL")
-    Page<Post> findByPostTypeWithUser(@Param("postType") PostType postType, Pageable pageable);
+    // 답변을 작성 순으로 id 커서 기준 페이징
+    @Query("SELECT p.id AS id, p.user.nickName AS nickName, p.content AS content, p.createdDate AS createdDate, p.likeNum AS likeNum " +
+            "FROM Post p WHERE p.parent.id = :parentId AND p.id > :cursor AND p.removedAt IS NULL ORDER BY p.id ASC")
+    List<AnswerProjection> findAnswersOrderByDate(@Param("parentId") Long parentId, @Param("cursor") Long cursor, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"user"})
-    @Query("SELECT p FROM Post p WHERE p.parent.id = :parentId AND p.removedAt IS NULL")
-    List<Post> findByParentIdWithUser(@Param("parentId") Long parentId);
+    // 답변을 좋아요 순으로 (좋아요 수, id) 커서 기준 페이징. 좋아요 수가 없는(null) 답변은 0으로 본다
+    // likeNum 컬럼은 좋아요 반영 작업(LikeService.flushLikes)에서 Redis 값으로 함께 갱신된다
+    @Query("SELECT p.id AS id, p.user.nickName AS nickName, p.content AS content, p.createdDate AS createdDate, COALESCE(p.likeNum, 0L) AS likeNum " +
+            "FROM Post p WHERE p.parent.id = :parentId AND p.removedAt IS NULL " +
+            "AND (COALESCE(p.likeNum, 0L) < :likeNum OR (COALESCE(p.likeNum, 0L) = :likeNum AND p.id < :cursor)) " +
+            "ORDER BY COALESCE(p.likeNum, 0L) DESC, p.id DESC")
+    List<AnswerProjection> findAnswersOrderByLikeNum(@Param("parentId") Long parentId, @Param("likeNum") Long likeNum, @Param("cursor") Long cursor, Pageable pageable);
 
     @EntityGraph(attributePaths = {"user"})
     @Query("SELECT p FROM Post p WHERE p.id = :postId AND p.removedAt IS NULL")
@@ -57,18 +67,35 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.id = :postId AND p.removedAt IS NULL")
     Optional<Post> findByIdWithUserAndParent(@Param("postId") Long postId);
 
-    @Query("SELECT prs.post.id FROM PostReadStatus prs WHERE prs.user.id = :userId")
-    List<Long> findAllPostIdByUserId(@Param("userId") Long userId);
-
     @Query("SELECT p.id FROM Post p WHERE p.removedAt IS NULL AND p.createdDate > :date")
     List<Long> findPostIdsWithinDate(LocalDateTime date);
 
+    // 주어진 id 중 삭제되지 않은 글의 id만 조회
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :postIds AND p.removedAt IS NULL")
+    List<Long> findExistingIds(@Param("postIds") Collection<Long> postIds);
+
     @Query("SELECT COUNT(p) > 0 FROM Post p WHERE p.id = :id AND p.removedAt IS NULL")
     boolean existsById(Long id);
 
     @Query("SELECT COUNT(p) FROM Post p WHERE p.createdDate >= :date AND p.removedAt IS NULL")
     Long countALlWithinDate(LocalDateTime date);
 
+    // 그룹별 최근 작성된 공지 수
+    @Query("SELECT p.group.id AS groupId, COUNT(p) AS count FROM Post p WHERE p.group IS NOT NULL AND p.createdDate >= :date AND p.removedAt IS NULL GROUP BY p.group.id")
+    List<GroupCountProjection> countByGroupWithinDate(@Param("date") LocalDateTime date);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.hiddenAt = NOW() WHERE p.id IN :postIds AND p.hiddenAt IS NULL")
+    void hideByIds(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.hiddenAt = NULL WHERE p.id = :postId AND p.hiddenAt IS NOT NULL")
+    int unhideById(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.viewNum = COALESCE(p.viewNum, 0) + :viewNum WHERE p.id = :postId")
+    void incrementViewNum(@Param("viewNum") Long viewNum, @Param("postId") Long postId);
+
     @Modifying
     @Query("UPDATE Post p SET p.likeNum = :likeNum WHERE p.id = :postId AND p.removedAt IS NULL")
     void updateLikeNum(@Param("likeNum") Long likeNum, @Param("postId") Long postId);
@@ -89,5 +116,31 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("UPDATE Post p SET p.commentNum = p.commentNum - :decrementNum WHERE p.id = :postId AND p.commentNum > 0")
     void decrementCommentNum(@Param("postId") Long postId, @Param("decrementNum") Long decrementNum);
 
-    void deleteAllByGroupId(Long groupId);
-}
\ No newline at end of file
+    // 그룹 삭제 작업에서 limit개씩 나눠서 소프트 삭제
+    @Modifying
+    @Query(value = "UPDATE post_tb SET removed_at = NOW() WHERE group_id = :groupId AND removed_at IS NULL LIMIT :limit", nativeQuery = true)
+    int deleteChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
+
+    // 그룹 삭제 작업에서 소프트 삭제된 게시글의 그룹 참조를 limit개씩 끊는다
+    @Modifying
+    @Query(value = "UPDATE post_tb SET group_id = NULL WHERE group_id = :groupId LIMIT :limit", nativeQuery = true)
+    int detachChunkByGroupId(@Param("groupId") Long groupId, @Param("limit") Integer limit);
+
+    interface AnswerProjection {
+        Long getId();
+        String getNickName();
+        String getContent();
+        LocalDateTime getCreatedDate();
+        Long getLikeNum();
+    }
+
+    interface WriterProjection {
+        Long getUserId();
+        PostType getPostType();
+    }
+
+    interface GroupCountProjection {
+        Long getGroupId();
+        Long getCount();
+    }
+}
@@ -0,0 +1,36 @@
+package com.hong.ForPaw.repository.Post;
+
+import com.hong.ForPaw.domain.Post.PostType;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 목록 화면에 필요한 컬럼만 조회하는 Querydsl 쿼리
+public interface PostRepositoryCustom {
+
+    List<PostSummary> findPostSummariesByType(PostType postType, Pageable pageable);
+
+    List<PostSummary> findPostSummariesByIds(List<Long> postIds);
+
+    List<QnaSummary> findQnaSummaries(Pageable pageable);
+
+    // imageURL은 첫 번째 이미지(가장 먼저 등록된 이미지), 없으면 null
+    record PostSummary(Long id,
+                       String nickName,
+                       PostType postType,
+                       String title,
+                       String content,
+                       LocalDateTime createdDate,
+                       Long commentNum,
+                       Long likeNum,
+                       Long imageId,
+                       String imageURL) {}
+
+    record QnaSummary(Long id,
+                      String nickName,
+                      String title,
+                      String content,
+                      LocalDateTime createdDate,
+                      Long answerNum) {}
+}
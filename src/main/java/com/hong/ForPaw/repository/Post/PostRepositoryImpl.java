@@ -0,0 +1,113 @@
+package com.hong.ForPaw.repository.Post;
+
+import com.hong.ForPaw.domain.Post.Post;
+import com.hong.ForPaw.domain.Post.PostType;
+import com.hong.ForPaw.domain.Post.QPost;
+import com.hong.ForPaw.domain.Post.QPostImage;
+import com.hong.ForPaw.domain.User.QUser;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    private static final QPost post = QPost.post;
+    private static final QUser user = QUser.user;
+    private static final QPostImage postImage = QPostImage.postImage;
+    private static final QPostImage firstImage = new QPostImage("firstImage");
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<PostSummary> findPostSummariesByType(PostType postType, Pageable pageable) {
+        return selectPostSummary()
+                .where(post.postType.eq(postType), post.removedAt.isNull(), post.hiddenAt.isNull())
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public List<PostSummary> findPostSummariesByIds(List<Long> postIds) {
+        return selectPostSummary()
+                .where(post.id.in(postIds), post.removedAt.isNull(), post.hiddenAt.isNull())
+                .fetch();
+    }
+
+    @Override
+    public List<QnaSummary> findQnaSummaries(Pageable pageable) {
+        return queryFactory
+                .select(Projections.constructor(QnaSummary.class,
+                        post.id,
+                        user.nickName,
+                        post.title,
+                        post.content,
+                        post.createdDate,
+                        post.answerNum))
+                .from(post)
+                .join(post.user, user)
+                .where(post.postType.eq(PostType.question), post.removedAt.isNull(), post.hiddenAt.isNull())
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    // 글, 작성자 닉네임, 첫 번째 이미지를 한 번의 쿼리로 조회 (이미지는 상관 서브쿼리)
+    private JPAQuery<PostSummary> selectPostSummary() {
+        return queryFactory
+                .select(Projections.constructor(PostSummary.class,
+                        post.id,
+                        user.nickName,
+                        post.postType,
+                        post.title,
+                        post.content,
+                        post.createdDate,
+                        post.commentNum,
+                        post.likeNum,
+                        firstImageId(),
+                        firstImageURL()))
+                .from(post)
+                .join(post.user, user);
+    }
+
+    private Expression<Long> firstImageId() {
+        return JPAExpressions
+                .select(firstImage.id.min())
+                .from(firstImage)
+                .where(firstImage.post.id.eq(post.id));
+    }
+
+    private Expression<String> firstImageURL() {
+        return JPAExpressions
+                .select(postImage.imageURL)
+                .from(postImage)
+                .where(postImage.id.eq(
+                        JPAExpressions
+                                .select(firstImage.id.min())
+                                .from(firstImage)
+                                .where(firstImage.post.id.eq(post.id))));
+    }
+
+    // Pageable의 정렬 조건을 Querydsl 정렬 조건으로 변환
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort) {
+        PathBuilder<Post> pathBuilder = new PathBuilder<>(Post.class, post.getMetadata());
+
+        return sort.stream()
+                .map(order -> order.isAscending()
+                        ? pathBuilder.getComparable(order.getProperty(), Comparable.class).asc()
+                        : pathBuilder.getComparable(order.getProperty(), Comparable.class).desc())
+                .toArray(OrderSpecifier<?>[]::new);
+    }
+}
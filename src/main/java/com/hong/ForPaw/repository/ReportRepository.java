@@ -1,17 +1,35 @@
 package com.hong.ForPaw.repository;
 
 import com.hong.ForPaw.domain.Report.Report;
+import com.hong.ForPaw.domain.Report.RepostStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
-    @Query("SELECT COUNT(r) > 0 FROM Report r WHERE r.reporter.id = :userId AND r.post.id = :postId")
-    boolean existsByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+    @Query("SELECT r.reporter.id FROM Report r WHERE r.post.id = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT r.reporter.id FROM Report r WHERE r.comment.id = :commentId")
+    List<Long> findUserIdsByCommentId(@Param("commentId") Long commentId);
+
+    @Query("SELECT COUNT(r) FROM Report r WHERE r.post.id = :postId AND r.status = :status")
+    Long countByPostIdAndStatus(@Param("postId") Long postId, @Param("status") RepostStatus status);
+
+    @Query("SELECT COUNT(r) FROM Report r WHERE r.comment.id = :commentId AND r.status = :status")
+    Long countByCommentIdAndStatus(@Param("commentId") Long commentId, @Param("status") RepostStatus status);
+
+    @Modifying
+    @Query("UPDATE Report r SET r.status = :status WHERE r.post.id = :postId AND r.status <> :status")
+    void updateStatusByPostId(@Param("postId") Long postId, @Param("status") RepostStatus status);
 
-    @Query("SELECT COUNT(r) > 0 FROM Report r WHERE r.reporter.id = :userId AND r.comment.id = :commentId")
-    boolean existsByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
+    @Modifying
+    @Query("UPDATE Report r SET r.status = :status WHERE r.comment.id = :commentId AND r.status <> :status")
+    void updateStatusByCommentId(@Param("commentId") Long commentId, @Param("status") RepostStatus status);
 }
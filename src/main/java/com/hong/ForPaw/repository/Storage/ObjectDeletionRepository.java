@@ -0,0 +1,26 @@
+package com.hong.ForPaw.repository.Storage;
+
+import com.hong.ForPaw.domain.Storage.ObjectDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ObjectDeletionRepository extends JpaRepository<ObjectDeletion, Long> {
+
+    @Query("SELECT od FROM ObjectDeletion od WHERE od.retryNum < :maxRetryNum ORDER BY od.id ASC")
+    List<ObjectDeletion> findPending(@Param("maxRetryNum") Integer maxRetryNum, Pageable pageable);
+
+    @Query("SELECT COUNT(od) FROM ObjectDeletion od WHERE od.retryNum < :maxRetryNum")
+    Long countPending(@Param("maxRetryNum") Integer maxRetryNum);
+
+    @Modifying
+    @Query("UPDATE ObjectDeletion od SET od.retryNum = od.retryNum + 1 WHERE od.id IN :ids")
+    void increaseRetryNumByIds(@Param("ids") Collection<Long> ids);
+}
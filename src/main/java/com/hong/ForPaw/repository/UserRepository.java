@@ -23,6 +23,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.removedAt IS NULL")
     Optional<User> findById(@Param("id") Long id);
 
+    @EntityGraph(attributePaths = {"status"})
+    @Query("SELECT u FROM User u WHERE u.id = :id AND u.removedAt IS NULL")
+    Optional<User> findByIdWithUserStatus(@Param("id") Long id);
+
     @Query("SELECT u.role FROM User u WHERE u.id = :id AND u.removedAt IS NULL")
     Optional<UserRole> findRoleById(@Param("id") Long id);
 
@@ -35,12 +39,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.createdDate >= :date")
     Long countALlWithinDate(LocalDateTime date);
 
-    @Query("SELECT u.district FROM User u WHERE u.id = :id AND u.removedAt IS NULL")
-    Optional<District> findDistrictById(@Param("id") Long id);
-
     @Query("SELECT u.province FROM User u WHERE u.id = :id AND u.removedAt IS NULL")
     Optional<Province> findProvinceById(@Param("id") Long id);
 
+    @Query("SELECT u.province AS province, u.district AS district FROM User u WHERE u.id = :id AND u.removedAt IS NULL")
+    Optional<LocationProjection> findLocationById(@Param("id") Long id);
+
     @Query("SELECT u FROM User u WHERE u.id = :id")
     Optional<User> findByIdWithRemoved(@Param("id") Long id);
 
@@ -63,4 +67,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Modifying
     @Query("DELETE FROM User u WHERE u.removedAt <= :cutoffDate")
     void deleteAllWithRemovedBefore(LocalDateTime cutoffDate);
+
+    interface LocationProjection {
+        Province getProvince();
+        District getDistrict();
+    }
 }
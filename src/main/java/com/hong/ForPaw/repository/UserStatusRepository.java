@@ -2,8 +2,15 @@ package com.hong.ForPaw.repository;
 
 import com.hong.ForPaw.domain.User.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface UserStatusRepository extends JpaRepository<UserStatus, Long> {
+
+    @Query("SELECT us.isActive FROM UserStatus us WHERE us.user.id = :userId")
+    Optional<Boolean> findIsActiveByUserId(@Param("userId") Long userId);
 }
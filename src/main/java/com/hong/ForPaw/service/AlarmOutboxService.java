@@ -0,0 +1,123 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.controller.DTO.AlarmRequest;
+import com.hong.ForPaw.domain.Alarm.AlarmOutbox;
+import com.hong.ForPaw.repository.Alarm.AlarmOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 알람 발행을 요청 트랜잭션에서 분리 (트랜잭셔널 아웃박스)
+// 서비스는 알람을 같은 트랜잭션 안에서 저장만 하고, 커밋된 알람은 릴레이가 모아서 발행 후 브로커 확인을 받으면 삭제
+// 발행은 트랜잭션 밖에서 하고, 확인받은 배치는 배치마다 따로 커밋해서 뒤의 배치가 실패해도 앞의 배치가 다시 발행되지 않는다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AlarmOutboxService {
+
+    private static final int BATCH_SIZE = 100;
+    private static final long CONFIRM_TIMEOUT = 1000L * 5; // 5초
+    private static final long LAG_WARN_THRESHOLD = 1000L * 30; // 30초 이상 밀리면 경고
+
+    private final AlarmOutboxRepository alarmOutboxRepository;
+    private final BrokerService brokerService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 모니터링용 지표
+    private final AtomicLong publishedNum = new AtomicLong();
+    private final AtomicLong relayLag = new AtomicLong();
+
+    @Transactional
+    public void enqueueAlarm(Long userId, AlarmRequest.AlarmDTO alarmDTO) {
+        AlarmOutbox alarmOutbox = AlarmOutbox.builder()
+                .routingId(userId)
+                .receiverId(alarmDTO.receiverId())
+                .content(alarmDTO.content())
+                .redirectURL(alarmDTO.redirectURL())
+                .date(alarmDTO.date())
+                .alarmType(alarmDTO.alarmType())
+                .build();
+
+        alarmOutboxRepository.save(alarmOutbox);
+    }
+
+    // 여러 유저에게 보내는 알람을 한 번에 저장 (routingId = 받는 유저)
+    @Transactional
+    public void enqueueAlarms(List<AlarmRequest.AlarmDTO> alarmDTOS) {
+        List<AlarmOutbox> alarmOutboxes = alarmDTOS.stream()
+                .map(alarmDTO -> AlarmOutbox.builder()
+                        .routingId(alarmDTO.receiverId())
+                        .receiverId(alarmDTO.receiverId())
+                        .content(alarmDTO.content())
+                        .redirectURL(alarmDTO.redirectURL())
+                        .date(alarmDTO.date())
+                        .alarmType(alarmDTO.alarmType())
+                        .build())
+                .toList();
+
+        alarmOutboxRepository.saveAll(alarmOutboxes);
+    }
+
+    @Scheduled(fixedDelay = 1000) // 1초마다 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void relayAlarms() {
+        updateRelayLag();
+
+        // 한 번에 BATCH_SIZE개씩, 대기 중인 알람이 없을 때까지 발행
+        while (relayBatch() == BATCH_SIZE);
+    }
+
+    public long getPublishedNum() {
+        return publishedNum.get();
+    }
+
+    // 가장 오래 기다린 알람이 저장된 후 지난 시간 (ms)
+    public long getRelayLag() {
+        return relayLag.get();
+    }
+
+    private int relayBatch() {
+        List<AlarmOutbox> alarms = alarmOutboxRepository.findPending(PageRequest.of(0, BATCH_SIZE));
+
+        if (alarms.isEmpty()) {
+            return 0;
+        }
+
+        // 확인을 받지 못하면 삭제하지 않고 다음 주기에 다시 발행 (중복 발행 가능, 유실은 없음)
+        // 브로커 오류만 재시도하고, 설정 오류 등 다른 예외는 그대로 던져서 드러나게 한다
+        try {
+            brokerService.produceAlarmsWithConfirm(alarms, CONFIRM_TIMEOUT);
+        } catch (AmqpException e) {
+            log.warn("알람 발행 실패, 다음 주기에 재시도: {}", e.getMessage());
+            return 0;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> alarmOutboxRepository.deleteAllInBatch(alarms));
+        publishedNum.addAndGet(alarms.size());
+
+        return alarms.size();
+    }
+
+    private void updateRelayLag() {
+        long lag = alarmOutboxRepository.findOldestCreatedDate()
+                .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toMillis())
+                .orElse(0L);
+        relayLag.set(lag);
+
+        if (lag > LAG_WARN_THRESHOLD) {
+            log.warn("알람 릴레이 지연: {}ms", lag);
+        }
+    }
+}
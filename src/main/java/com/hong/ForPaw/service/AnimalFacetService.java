@@ -0,0 +1,143 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Animal.AgeBand;
+import com.hong.ForPaw.repository.Animal.AnimalRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+// 보호 동물 필터 검색용 메모리 인덱스
+// 공고 중인 동물을 최신순(id 내림차순)으로 번호를 매기고, 필터 값마다 해당 동물 번호의 비트맵(BitSet)을 둔다
+// 같은 필터 안의 값은 OR, 서로 다른 필터는 AND로 묶어서 계산하므로 animal_tb를 스캔하지 않는다
+// 동물 데이터를 불러오거나 삭제한 뒤 다시 만든다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnimalFacetService {
+
+    private final AnimalRepository animalRepository;
+
+    private volatile FacetIndex index = new FacetIndex(new long[0], createEmptyBitmaps());
+
+    public void rebuildIndex() {
+        List<AnimalRepository.AnimalFacetProjection> animals = animalRepository.findAllFacets();
+
+        long[] ids = new long[animals.size()];
+        Map<AnimalFacet, Map<String, BitSet>> bitmaps = createEmptyBitmaps();
+
+        for (int position = 0; position < animals.size(); position++) {
+            AnimalRepository.AnimalFacetProjection animal = animals.get(position);
+            ids[position] = animal.getId();
+
+            for (AnimalFacet facet : AnimalFacet.values()) {
+                String value = facet.getExtractor().apply(animal);
+                if (value != null) {
+                    bitmaps.get(facet).computeIfAbsent(value, key -> new BitSet(animals.size())).set(position);
+                }
+            }
+        }
+
+        index = new FacetIndex(ids, bitmaps);
+        log.info("동물 필터 인덱스 생성 완료 ({}마리)", ids.length);
+    }
+
+    // filters: 필터별 선택한 값 (비어 있으면 해당 필터는 적용하지 않음)
+    public FacetResult search(Map<AnimalFacet, Set<String>> filters, int page, int size) {
+        FacetIndex current = index;
+
+        // 필터별 OR 결과를 먼저 구해두고, 전체 결과와 필터별 개수 계산에 재사용
+        Map<AnimalFacet, BitSet> matches = new EnumMap<>(AnimalFacet.class);
+        filters.forEach((facet, values) -> {
+            if (values != null && !values.isEmpty()) {
+                matches.put(facet, union(current, facet, values));
+            }
+        });
+
+        BitSet result = intersect(current, matches, null);
+
+        // 값별 개수는 자기 필터를 뺀 나머지 필터 조건으로 계산 (같은 필터의 다른 값을 골랐을 때의 개수)
+        Map<AnimalFacet, Map<String, Integer>> counts = new EnumMap<>(AnimalFacet.class);
+        for (AnimalFacet facet : AnimalFacet.values()) {
+            BitSet base = matches.containsKey(facet) ? intersect(current, matches, facet) : result;
+
+            Map<String, Integer> valueCounts = new TreeMap<>();
+            current.bitmaps().get(facet).forEach((value, bitmap) -> {
+                BitSet matched = (BitSet) bitmap.clone();
+                matched.and(base);
+                valueCounts.put(value, matched.cardinality());
+            });
+            counts.put(facet, valueCounts);
+        }
+
+        // 최신순으로 page 번째 size개의 id
+        List<Long> animalIds = new ArrayList<>(size);
+        int position = result.nextSetBit(0);
+        for (int skip = page * size; position >= 0 && skip > 0; skip--) {
+            position = result.nextSetBit(position + 1);
+        }
+        while (position >= 0 && animalIds.size() < size) {
+            animalIds.add(current.ids()[position]);
+            position = result.nextSetBit(position + 1);
+        }
+
+        return new FacetResult(animalIds, result.cardinality(), counts);
+    }
+
+    private static Map<AnimalFacet, Map<String, BitSet>> createEmptyBitmaps() {
+        Map<AnimalFacet, Map<String, BitSet>> bitmaps = new EnumMap<>(AnimalFacet.class);
+        for (AnimalFacet facet : AnimalFacet.values()) {
+            bitmaps.put(facet, new HashMap<>());
+        }
+
+        return bitmaps;
+    }
+
+    private BitSet union(FacetIndex current, AnimalFacet facet, Set<String> values) {
+        BitSet union = new BitSet(current.ids().length);
+        values.forEach(value -> {
+            BitSet bitmap = current.bitmaps().get(facet).get(value);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        });
+
+        return union;
+    }
+
+    private BitSet intersect(FacetIndex current, Map<AnimalFacet, BitSet> matches, AnimalFacet excluded) {
+        BitSet result = new BitSet(current.ids().length);
+        result.set(0, current.ids().length);
+
+        matches.forEach((facet, match) -> {
+            if (facet != excluded) {
+                result.and(match);
+            }
+        });
+
+        return result;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum AnimalFacet {
+        CATEGORY(animal -> animal.getCategory() != null ? animal.getCategory().name() : null),
+        PROVINCE(animal -> animal.getProvince() != null ? animal.getProvince().name() : null),
+        GENDER(AnimalRepository.AnimalFacetProjection::getGender),
+        NEUTER(AnimalRepository.AnimalFacetProjection::getNeuter),
+        AGE(animal -> AgeBand.from(animal.getAge()).name()),
+        SHELTER(animal -> animal.getShelterId() != null ? animal.getShelterId().toString() : null);
+
+        private final Function<AnimalRepository.AnimalFacetProjection, String> extractor;
+    }
+
+    // ids[position] = 해당 번호의 동물 id
+    private record FacetIndex(long[] ids, Map<AnimalFacet, Map<String, BitSet>> bitmaps) {}
+
+    public record FacetResult(List<Long> animalIds, int totalNum, Map<AnimalFacet, Map<String, Integer>> counts) {}
+}
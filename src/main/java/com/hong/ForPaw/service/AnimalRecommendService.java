@@ -0,0 +1,159 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.District;
+import com.hong.ForPaw.domain.Province;
+import com.hong.ForPaw.repository.Animal.AnimalRepository;
+import com.hong.ForPaw.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 유저별 추천 동물 목록을 미리 계산해서 Redis "animalRecommend:{userId}"에 저장
+// 동물을 조회하면 비동기로 다시 계산하고 (같은 유저의 갱신은 하나로 합침), 추천 API는 Redis 한 번 읽기만 한다
+// 조회 기록이 없을 때 쓰는 지역별 목록(시군구, 시도, 전체)도 주기적으로 미리 만들어 둔다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnimalRecommendService {
+
+    public static final Long RECOMMEND_EXP = 1000L * 60 * 60 * 24; // 24시간
+    public static final Long REGION_EXP = 1000L * 60 * 60 * 2; // 2시간 (1시간마다 갱신)
+    public static final Long EMPTY_RECOMMEND_EXP = 1000L * 60 * 10; // 10분 (지역 후보가 새로 생기면 빨리 반영되도록)
+    private static final int RECOMMEND_SIZE = 5;
+    private static final Long SEARCH_HISTORY_SIZE = 5L;
+    private static final String RECOMMEND_TYPE = "animalRecommend";
+    private static final String REGION_TYPE = "animalRecommendRegion";
+    private static final String ALL_REGION = "ALL";
+
+    private final AnimalSimilarityService animalSimilarityService;
+    private final AnimalRepository animalRepository;
+    private final UserRepository userRepository;
+    private final RedisService redisService;
+    private final ThreadPoolTaskExecutor animalRecommendExecutor;
+
+    // 갱신이 예약되어 아직 시작되지 않은 유저 id (연속으로 조회해도 갱신은 한 번만 대기)
+    private final Set<Long> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+    // 최근 조회 목록에 추가하고 (5개까지만 저장), 추천 목록은 요청 스레드 밖에서 다시 계산
+    public void recordView(Long userId, Long animalId) {
+        redisService.addListElementWithLimit("animalSearch:" + userId, animalId.toString(), SEARCH_HISTORY_SIZE);
+
+        if (!pendingRefreshes.add(userId)) {
+            return;
+        }
+
+        try {
+            animalRecommendExecutor.execute(() -> {
+                // 시작할 때 빼두므로, 계산하는 동안 들어온 조회는 다음 갱신으로 예약된다
+                pendingRefreshes.remove(userId);
+                try {
+                    refreshRecommendation(userId);
+                } catch (Exception e) {
+                    log.warn("추천 목록 갱신 실패 userId={}: {}", userId, e.getMessage());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pendingRefreshes.remove(userId);
+            log.warn("추천 목록 갱신 대기열이 가득 차서 건너뜀 userId={}", userId);
+        }
+    }
+
+    // 미리 계산된 목록을 읽는다. 아직 없으면(처음이거나 만료) 한 번 계산해서 저장
+    public List<Long> findRecommendedAnimalIds(Long userId) {
+        if (userId == null) {
+            return parseIds(redisService.getDataInStr(REGION_TYPE, ALL_REGION));
+        }
+
+        String cached = redisService.getDataInStr(RECOMMEND_TYPE, userId.toString());
+        if (cached != null) {
+            return parseIds(cached);
+        }
+
+        return refreshRecommendation(userId);
+    }
+
+    public List<Long> refreshRecommendation(Long userId) {
+        List<Long> searchedAnimalIds = Optional.ofNullable(redisService.getMembersOfList("animalSearch:" + userId))
+                .orElseGet(ArrayList::new)
+                .stream()
+                .map(Long::valueOf)
+                .toList();
+
+        List<Long> animalIds = animalSimilarityService.findSimilarAnimalIds(searchedAnimalIds, RECOMMEND_SIZE);
+
+        // 조회 기록이 없어서, 추천하는 ID 목록이 없으면 사용자 위치 기반으로 추천
+        if (animalIds.isEmpty()) {
+            animalIds = findRegionAnimalIds(userId);
+        }
+
+        // 빈 목록은 짧게만 저장해서, 지역 후보가 생기면 다음 조회 때 다시 계산되도록 한다
+        redisService.storeValue(RECOMMEND_TYPE, userId.toString(), joinIds(animalIds), animalIds.isEmpty() ? EMPTY_RECOMMEND_EXP : RECOMMEND_EXP);
+
+        return animalIds;
+    }
+
+    // 시군구, 시도, 전체 단위로 앞쪽 RECOMMEND_SIZE개의 동물 id를 미리 저장
+    @Scheduled(cron = "0 5 * * * *") // 매시 5분
+    public void refreshRegionCandidates() {
+        Map<String, List<Long>> candidates = new HashMap<>();
+
+        animalRepository.findAllRegions().forEach(animal -> {
+            Stream.of(buildRegionId(animal.getProvince(), animal.getDistrict()), buildRegionId(animal.getProvince(), null), ALL_REGION)
+                    .forEach(regionId -> {
+                        List<Long> animalIds = candidates.computeIfAbsent(regionId, key -> new ArrayList<>());
+                        if (animalIds.size() < RECOMMEND_SIZE) {
+                            animalIds.add(animal.getId());
+                        }
+                    });
+        });
+
+        candidates.forEach((regionId, animalIds) -> redisService.storeValue(REGION_TYPE, regionId, joinIds(animalIds), REGION_EXP));
+        log.info("지역별 추천 후보 갱신 완료 ({}개 지역)", candidates.size());
+    }
+
+    // 시군구 목록이 5개 미만이면 시도 목록으로 채운다
+    private List<Long> findRegionAnimalIds(Long userId) {
+        return userRepository.findLocationById(userId)
+                .map(location -> {
+                    Set<Long> animalIds = new LinkedHashSet<>(parseIds(redisService.getDataInStr(REGION_TYPE, buildRegionId(location.getProvince(), location.getDistrict()))));
+
+                    if (animalIds.size() < RECOMMEND_SIZE) {
+                        animalIds.addAll(parseIds(redisService.getDataInStr(REGION_TYPE, buildRegionId(location.getProvince(), null))));
+                    }
+
+                    return animalIds.stream().limit(RECOMMEND_SIZE).toList();
+                })
+                .orElseGet(ArrayList::new);
+    }
+
+    // 같은 이름의 시군구가 여러 시도에 있을 수 있어서 시도와 함께 키로 사용
+    private String buildRegionId(Province province, District district) {
+        return district != null ? province + ":" + district : String.valueOf(province);
+    }
+
+    private String joinIds(List<Long> animalIds) {
+        return animalIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    private List<Long> parseIds(String value) {
+        if (value == null || value.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return Arrays.stream(value.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+}
@@ -8,8 +8,6 @@ import com.hong.ForPaw.domain.Animal.AnimalType;
 import com.hong.ForPaw.domain.Apply.Apply;
 import com.hong.ForPaw.domain.Apply.ApplyStatus;
 import com.hong.ForPaw.domain.Animal.FavoriteAnimal;
-import com.hong.ForPaw.domain.District;
-import com.hong.ForPaw.domain.Province;
 import com.hong.ForPaw.domain.User.User;
 import com.hong.ForPaw.domain.Animal.Animal;
 import com.hong.ForPaw.domain.Shelter;
@@ -23,11 +21,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
@@ -42,6 +38,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -50,10 +47,14 @@ public class AnimalService {
 
     private final AnimalRepository animalRepository;
     private final ShelterRepository shelterRepository;
-    private final UserRepository userRepository;
     private final FavoriteAnimalRepository favoriteAnimalRepository;
     private final RedisService redisService;
     private final ApplyRepository applyRepository;
+    private final DashboardStatsService dashboardStatsService;
+    private final LikeService likeService;
+    private final AnimalSimilarityService animalSimilarityService;
+    private final AnimalRecommendService animalRecommendService;
+    private final AnimalFacetService animalFacetService;
     private final EntityManager entityManager;
     private final ObjectMapper mapper;
     private final WebClient webClient;
@@ -79,9 +80,6 @@ public class AnimalService {
     @Value("${google.api.key}")
     private String googleAPIKey;
 
-    @Value("${recommend.uri}")
-    private String animalRecommendURI;
-
     @Transactional
     @Scheduled(cron = "0 0 0,12 * * *") // 매일 자정과 정오에 실행
     public void loadAnimalData() {
@@ -100,9 +98,12 @@ public class AnimalService {
                             .retry(3)
                             .flatMapMany(response -> processAnimalData(response, shelter))
                             .collectList()
-                            .doOnNext(animalRepository::saveAll);
+                            .doOnNext(animals -> {
+                                animalRepository.saveAll(animals);
+                                animalSimilarityService.upsert(animals); // 유사도 인덱스에 바로 반영
+                            });
                 })
-                .then()
+                .then(Mono.fromRunnable(animalFacetService::rebuildIndex)) // 모두 저장한 뒤 필터 인덱스 재생성
                 .subscribe();
     }
 
@@ -175,7 +176,7 @@ public class AnimalService {
     }
 
     @Transactional
-    public AnimalResponse.FindAnimalListDTO findAnimalList(Integer page, String sort, Long userId){
+    public AnimalResponse.FindFilteredAnimalListDTO findAnimalList(Integer page, String sort, AnimalRequest.AnimalFilterDTO filterDTO, Long userId){
         // animalType 매핑을 해주는 맵
         Map<String, AnimalType> animalTypeMap = Map.of(
                 "dog", AnimalType.dog,
@@ -183,25 +184,42 @@ public class AnimalService {
                 "other", AnimalType.other
         );
 
-        AnimalType category = Optional.ofNullable(sort)
-                .filter(s -> !s.equals("date")) // date가 들어오면 모든 동물이 최신순으로 정렬되서 나감
-                .flatMap(s -> Optional.ofNullable(animalTypeMap.get(s)))
-                .orElseThrow(() -> new CustomException(ExceptionCode.BAD_APPROACH));
+        // date가 들어오면 모든 동물이 최신순으로 정렬되서 나감
+        if(sort == null || (!sort.equals("date") && !animalTypeMap.containsKey(sort))){
+            throw new CustomException(ExceptionCode.BAD_APPROACH);
+        }
 
-        Pageable pageable =createPageable(page, 5, "id");
-        Page<Animal> animalPage = animalRepository.findAllByCategory(category, pageable);
+        // 같은 필터 안의 값은 OR, 서로 다른 필터는 AND
+        Map<AnimalFacetService.AnimalFacet, Set<String>> filters = new EnumMap<>(AnimalFacetService.AnimalFacet.class);
+        if(!sort.equals("date")){
+            filters.put(AnimalFacetService.AnimalFacet.CATEGORY, Set.of(animalTypeMap.get(sort).name()));
+        }
+        filters.put(AnimalFacetService.AnimalFacet.PROVINCE, toFilterValues(filterDTO.province()));
+        filters.put(AnimalFacetService.AnimalFacet.GENDER, toFilterValues(filterDTO.gender()));
+        filters.put(AnimalFacetService.AnimalFacet.NEUTER, toFilterValues(filterDTO.neuter()));
+        filters.put(AnimalFacetService.AnimalFacet.AGE, toFilterValues(filterDTO.age()));
+        filters.put(AnimalFacetService.AnimalFacet.SHELTER, toFilterValues(filterDTO.shelter()));
 
-        if(animalPage.isEmpty()){
+        // 메모리 인덱스에서 현재 페이지의 id만 구하고, 동물 정보는 IN 조회 한 번으로 가져온다
+        AnimalFacetService.FacetResult facetResult = animalFacetService.search(filters, page, 5);
+        List<Long> animalIds = facetResult.animalIds();
+
+        if(animalIds.isEmpty()){
             throw new CustomException(ExceptionCode.ANIMAL_NOT_EXIST);
         }
 
+        List<Animal> animals = animalRepository.findAllByIdList(animalIds).stream()
+                .sorted(Comparator.comparingInt(animal -> animalIds.indexOf(animal.getId())))
+                .toList();
+
         // 사용자가 '좋아요' 표시한 Animal의 ID 목록
         // 만약 로그인 되어 있지 않다면, 빈 리스트로 처리한다.
         List<Long> likedAnimalIds = userId != null ? favoriteAnimalRepository.findLikedAnimalIdsByUserId(userId) : new ArrayList<>();
+        List<Long> likeNums = redisService.getDataInLongs("animalLikeNum", animals.stream().map(Animal::getId).toList());
 
-        List<AnimalResponse.AnimalDTO> animalDTOS = animalPage.getContent().stream()
-                .map(animal -> {
-                    Long likeNum = redisService.getDataInLong("animalLikeNum", animal.getId().toString());
+        List<AnimalResponse.AnimalDTO> animalDTOS = IntStream.range(0, animals.size())
+                .mapToObj(i -> {
+                    Animal animal = animals.get(i);
 
                     return new AnimalResponse.AnimalDTO(
                         animal.getId(),
@@ -211,38 +229,42 @@ public class AnimalService {
                         animal.getSpecialMark(),
                         animal.getRegion(),
                         animal.getInquiryNum(),
-                        likeNum,
+                        likeNums.get(i),
                         likedAnimalIds.contains(animal.getId()),
                         animal.getProfileURL());
                 })
                 .collect(Collectors.toList());
 
-        return new AnimalResponse.FindAnimalListDTO(animalDTOS);
+        // 필터 값별 동물 수
+        Map<String, Map<String, Integer>> facetCounts = new LinkedHashMap<>();
+        facetResult.counts().forEach((facet, counts) -> facetCounts.put(facet.name().toLowerCase(), counts));
+
+        return new AnimalResponse.FindFilteredAnimalListDTO(animalDTOS, facetResult.totalNum(), facetCounts);
     }
 
     @Transactional
     public AnimalResponse.FindAnimalListDTO findRecommendedAnimalList(Long userId){
-        Map<String, Long> jsonBody = Map.of("user_id", userId);
-
-        List<Long> recommendedAnimalIds = webClient.post()
-                .uri(animalRecommendURI)
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(BodyInserters.fromValue(jsonBody))
-                .retrieve()
-                .bodyToMono(AnimalResponse.RecommendationDTO.class)
-                .map(AnimalResponse.RecommendationDTO::recommendedAnimals)
-                .block();
+        // 미리 계산된 추천 목록 (조회 기록이 없으면 사용자 위치 기반 목록)
+        List<Long> recommendedAnimalIds = animalRecommendService.findRecommendedAnimalIds(userId);
 
-        // 조회 기록이 없어서, 추천하는 ID 목록이 없으면 사용자 위치 기반으로 추천
         if (recommendedAnimalIds.isEmpty()) {
-            recommendedAnimalIds = findAnimalIdsByUserLocation(userId);
+            return new AnimalResponse.FindAnimalListDTO(new ArrayList<>());
         }
 
         List<Long> likedAnimalIds = userId != null ? favoriteAnimalRepository.findLikedAnimalIdsByUserId(userId) : new ArrayList<>();
 
-        List<AnimalResponse.AnimalDTO> animalDTOS =animalRepository.findAllByIdList(recommendedAnimalIds).stream()
-                .map(animal -> {
-                    Long likeNum = redisService.getDataInLong("animalLikeNum", animal.getId().toString());
+        // IN 조회는 순서를 보장하지 않으므로 추천 순서대로 다시 정렬
+        List<Animal> animals = animalRepository.findAllByIdList(recommendedAnimalIds).stream()
+                .sorted(Comparator.comparingInt(animal -> recommendedAnimalIds.indexOf(animal.getId())))
+                .toList();
+
+        // 좋아요 수는 한 번에 조회
+        List<Long> likeNums = redisService.getDataInLongs("animalLikeNum", animals.stream().map(Animal::getId).toList());
+
+        List<AnimalResponse.AnimalDTO> animalDTOS = IntStream.range(0, animals.size())
+                .mapToObj(i -> {
+                    Animal animal = animals.get(i);
+                    Long likeNum = likeNums.get(i);
 
                     return new AnimalResponse.AnimalDTO(
                             animal.getId(),
@@ -299,9 +321,8 @@ public class AnimalService {
 
         boolean isLike = favoriteAnimalRepository.findByUserIdAndAnimalId(userId, animal.getId()).isPresent();
 
-        // 추천을 위해 검색한 동물의 id 저장 (5개까지만 저장된다)
-        String key = "animalSearch:" + userId;
-        redisService.addListElementWithLimit(key, animalId.toString(), 5l);
+        // 추천을 위해 검색한 동물의 id 저장 후 추천 목록 갱신 (비동기)
+        animalRecommendService.recordView(userId, animalId);
 
         return new AnimalResponse.FindAnimalByIdDTO(animalId,
                 animal.getName(),
@@ -328,25 +349,8 @@ public class AnimalService {
                 throw new CustomException(ExceptionCode.ANIMAL_NOT_FOUND);
             }
 
-        Optional<FavoriteAnimal> favoriteAnimalOP = favoriteAnimalRepository.findByUserIdAndAnimalId(userId, animalId);
-
-        // 좋아요가 이미 있다면 삭제, 없다면 추가
-        if (favoriteAnimalOP.isPresent()) {
-            favoriteAnimalRepository.delete(favoriteAnimalOP.get());
-            redisService.decrementCnt("animalLikeNum", animalId.toString(), 1L);
-        }
-        else {
-            Animal animalRef = entityManager.getReference(Animal.class, animalId);
-            User userRef = entityManager.getReference(User.class, userId);
-
-            FavoriteAnimal favoriteAnimal = FavoriteAnimal.builder()
-                    .user(userRef)
-                    .animal(animalRef)
-                    .build();
-
-            favoriteAnimalRepository.save(favoriteAnimal);
-            redisService.incrementCnt("animalLikeNum", animalId.toString(), 1L);
-        }
+        // 좋아요가 이미 있다면 삭제, 없다면 추가 (Redis에서 원자적으로 처리, DB 반영은 비동기)
+        likeService.toggleLike(LikeService.LikeTarget.ANIMAL, animalId, userId);
     }
 
     @Scheduled(cron = "0 20 0 * * *")
@@ -391,6 +395,9 @@ public class AnimalService {
         // 동물의 문의 횟수 증가
         animalRepository.incrementInquiryNumById(animalId);
 
+        // 대시보드 통계 반영
+        dashboardStatsService.recordApplySubmitted();
+
         return new AnimalResponse.CreateApplyDTO(apply.getId());
     }
 
@@ -444,7 +451,11 @@ public class AnimalService {
         Long animalId = applyRepository.findAnimalIdById(applyId);
         animalRepository.decrementInquiryNumById(animalId);
 
+        ApplyStatus status = applyRepository.findStatusById(applyId);
         applyRepository.deleteById(applyId);
+
+        // 대시보드 통계 반영
+        dashboardStatsService.recordAppliesDeleted(List.of(status));
     }
 
     // 공가가 종료된 것은 주기적으로 삭제
@@ -460,6 +471,8 @@ public class AnimalService {
         );
 
         animalRepository.deleteAll(animals);
+        animalSimilarityService.remove(animals.stream().map(Animal::getId).toList());
+        animalFacetService.rebuildIndex();
     }
 
     private Flux<Animal> processAnimalData(String response, Shelter shelter) {
@@ -556,33 +569,11 @@ public class AnimalService {
         return uri;
     }
 
-    private Pageable createPageable(int page, int size, String sortProperty) {
-        return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortProperty));
+    private Set<String> toFilterValues(List<String> values) {
+        return values != null ? new HashSet<>(values) : Collections.emptySet();
     }
 
-    private List<Long> findAnimalIdsByUserLocation(Long userId) {
-        // 5개 반환
-        PageRequest pageRequest = PageRequest.of(0, 5);
-
-        // 로그인 되지 않았으면, 그냥 시간순으로 반환
-        if (userId == null) {
-            return animalRepository.findAllIds(pageRequest).getContent();
-        }
-
-        // 사용자 district를 바탕으로 조회
-        List<Long> animalIds = userRepository.findDistrictById(userId)
-                .map(district -> animalRepository.findAnimalIdsByDistrict(district, pageRequest))
-                .orElseGet(ArrayList::new);
-
-        // 조회된 동물 ID의 수가 5개 미만인 경우, province 범위까지 확대해서 추가 조회
-        if (animalIds.size() < 5) {
-            animalIds.addAll(userRepository.findProvinceById(userId)
-                    .map(province -> animalRepository.findAnimalIdsByProvince(province, pageRequest))
-                    .orElseGet(ArrayList::new));
-
-            return animalIds.subList(0, Math.min(5, animalIds.size()));
-        }
-
-        return animalIds;
+    private Pageable createPageable(int page, int size, String sortProperty) {
+        return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortProperty));
     }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Animal.AgeBand;
+import com.hong.ForPaw.domain.Animal.Animal;
+import com.hong.ForPaw.repository.Animal.AnimalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// 동물 유사도 추천. 동물마다 품종/색/나이/성별/지역/특징/발견 장소를 해싱한 특징 벡터(float[])를 메모리에 두고,
+// 최근 본 동물 벡터의 합과 코사인 유사도가 높은 순으로 top-k를 고른다 (외부 추천 서버, 벡터 DB 호출 없음)
+// 동물 데이터를 불러오거나 삭제할 때 바로 반영하고, 하루 한 번 DB 기준으로 다시 만든다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnimalSimilarityService {
+
+    private static final int DIMENSION = 256;
+    private static final int MAX_TEXT_TOKENS = 10; // 특징, 발견 장소는 앞쪽 단어 일부만 사용
+    private static final Pattern SPLIT_PATTERN = Pattern.compile("[\\s,./()&\\[\\]]+");
+
+    // 필드별 가중치 (품종, 지역이 같을수록 비슷한 동물로 본다)
+    private static final float KIND_WEIGHT = 3f;
+    private static final float DISTRICT_WEIGHT = 2f;
+    private static final float PROVINCE_WEIGHT = 1f;
+    private static final float COLOR_WEIGHT = 1f;
+    private static final float AGE_WEIGHT = 1f;
+    private static final float GENDER_WEIGHT = 0.5f;
+    private static final float TEXT_WEIGHT = 0.5f;
+
+    private final AnimalRepository animalRepository;
+
+    // animalId => 길이가 1로 정규화된 특징 벡터
+    private volatile Map<Long, float[]> vectors = new ConcurrentHashMap<>();
+
+    public void upsert(List<Animal> animals) {
+        animals.forEach(animal -> vectors.put(animal.getId(), vectorize(animal.getKind(), animal.getColor(), animal.getAge(),
+                animal.getGender(), animal.getRegion(), animal.getSpecialMark(), animal.getHappenPlace())));
+    }
+
+    public void remove(Collection<Long> animalIds) {
+        animalIds.forEach(vectors::remove);
+    }
+
+    // 기준 동물들과 비슷한 동물 id를 유사도 순으로 최대 k개 반환 (기준 동물은 제외)
+    public List<Long> findSimilarAnimalIds(List<Long> seedIds, int k) {
+        Map<Long, float[]> current = vectors;
+
+        // 후보 벡터가 정규화되어 있으므로, 질의 벡터는 합만 구해도 내적 순서가 코사인 유사도 순서와 같다
+        float[] query = new float[DIMENSION];
+        boolean hasSeed = false;
+        for (Long seedId : seedIds) {
+            float[] vector = current.get(seedId);
+            if (vector == null) {
+                continue;
+            }
+
+            for (int i = 0; i < DIMENSION; i++) {
+                query[i] += vector[i];
+            }
+            hasSeed = true;
+        }
+
+        if (!hasSeed) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> seedIdSet = new HashSet<>(seedIds);
+        PriorityQueue<ScoredId> topK = new PriorityQueue<>(Comparator.comparingDouble(ScoredId::score));
+
+        current.forEach((animalId, vector) -> {
+            if (seedIdSet.contains(animalId)) {
+                return;
+            }
+
+            float score = dot(query, vector);
+            if (topK.size() < k) {
+                topK.add(new ScoredId(animalId, score));
+            } else if (score > topK.peek().score()) {
+                topK.poll();
+                topK.add(new ScoredId(animalId, score));
+            }
+        });
+
+        List<ScoredId> sorted = new ArrayList<>(topK);
+        sorted.sort(Comparator.comparingDouble(ScoredId::score).reversed());
+
+        return sorted.stream()
+                .map(ScoredId::animalId)
+                .toList();
+    }
+
+    @Scheduled(cron = "0 30 4 * * *") // 매일 새벽 4시 30분, 증분 반영이 빠진 것이 있어도 DB 기준으로 맞춘다
+    public void rebuildIndex() {
+        Map<Long, float[]> rebuilt = new ConcurrentHashMap<>();
+
+        animalRepository.findAllFeatures().forEach(feature -> rebuilt.put(feature.getId(), vectorize(feature.getKind(), feature.getColor(),
+                feature.getAge(), feature.getGender(), feature.getRegion(), feature.getSpecialMark(), feature.getHappenPlace())));
+
+        vectors = rebuilt;
+        log.info("동물 유사도 인덱스 생성 완료 ({}마리)", rebuilt.size());
+    }
+
+    private float[] vectorize(String kind, String color, String age, String gender, String region, String specialMark, String happenPlace) {
+        float[] vector = new float[DIMENSION];
+
+        addToken(vector, "kind:" + kind, KIND_WEIGHT);
+        addToken(vector, "age:" + AgeBand.from(age), AGE_WEIGHT); // 나이대로 묶어서 비교
+        addToken(vector, "gender:" + gender, GENDER_WEIGHT);
+
+        // region은 "시도 시군구" 형태
+        if (region != null) {
+            addToken(vector, "district:" + region, DISTRICT_WEIGHT);
+            addToken(vector, "province:" + region.split(" ")[0], PROVINCE_WEIGHT);
+        }
+
+        addTokens(vector, "color:", color, COLOR_WEIGHT);
+        addTokens(vector, "mark:", specialMark, TEXT_WEIGHT);
+        addTokens(vector, "place:", happenPlace, TEXT_WEIGHT);
+
+        normalize(vector);
+        return vector;
+    }
+
+    private void addTokens(float[] vector, String prefix, String text, float weight) {
+        if (text == null) {
+            return;
+        }
+
+        Arrays.stream(SPLIT_PATTERN.split(text))
+                .filter(token -> !token.isBlank())
+                .limit(MAX_TEXT_TOKENS)
+                .forEach(token -> addToken(vector, prefix + token, weight));
+    }
+
+    // 해시로 차원을 정하고, 부호도 해시로 정해서 충돌한 특징끼리 서로 상쇄되도록 한다
+    private void addToken(float[] vector, String token, float weight) {
+        int hash = token.hashCode() * 0x9E3779B9;
+        int index = Math.floorMod(hash >>> 1, DIMENSION);
+        vector[index] += (hash & 1) == 0 ? weight : -weight;
+    }
+
+    private void normalize(float[] vector) {
+        float norm = (float) Math.sqrt(dot(vector, vector));
+        if (norm == 0f) {
+            return;
+        }
+
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] /= norm;
+        }
+    }
+
+    private float dot(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < DIMENSION; i++) {
+            sum += a[i] * b[i];
+        }
+
+        return sum;
+    }
+
+    private record ScoredId(Long animalId, float score) {}
+}
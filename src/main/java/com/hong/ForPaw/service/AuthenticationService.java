@@ -4,15 +4,10 @@ import com.hong.ForPaw.controller.DTO.AuthenticationResponse;
 import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.core.errors.ExceptionCode;
 import com.hong.ForPaw.domain.Authentication.Visit;
-import com.hong.ForPaw.domain.User.User;
+import com.hong.ForPaw.domain.Authentication.VisitType;
 import com.hong.ForPaw.domain.User.UserRole;
-import com.hong.ForPaw.repository.Animal.AnimalRepository;
-import com.hong.ForPaw.repository.ApplyRepository;
 import com.hong.ForPaw.repository.Authentication.VisitRepository;
-import com.hong.ForPaw.repository.Post.CommentRepository;
-import com.hong.ForPaw.repository.Post.PostRepository;
 import com.hong.ForPaw.repository.UserRepository;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -20,8 +15,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -33,31 +26,32 @@ public class AuthenticationService {
 
     private final VisitRepository visitRepository;
     private final UserRepository userRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final AnimalRepository animalRepository;
-    private final ApplyRepository applyRepository;
-    private final EntityManager entityManager;
     private final RedisService redisService;
+    private final DashboardStatsService dashboardStatsService;
+    private final ObjectCleanupService objectCleanupService;
+    private final AlarmOutboxService alarmOutboxService;
+    private final GroupPurgeService groupPurgeService;
 
     @Transactional
     @Scheduled(cron = "0 3 * * * *") // 매 시간 3분에 실행
     public void syncVisits(){
-        String key = getPreviousHourKey();
-        LocalDateTime visitTime = parseDateTimeFromKey(key);
+        LocalDateTime visitHour = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime visitDay = visitHour.toLocalDate().atStartOfDay();
 
-        Set<String> visitSet = redisService.getMembersOfSet(key);
-        visitSet.forEach(visitorId -> {
-            User userRef = entityManager.getReference(User.class, visitorId);
-            Visit visit = Visit.builder()
-                    .user(userRef)
-                    .date(visitTime)
-                    .build();
+        String hourKey = VisitService.createHourKey(visitHour);
+        String dayKey = VisitService.createDayKey(visitHour.toLocalDate());
 
-            visitRepository.save(visit);
-        });
+        // 지난 한 시간의 방문자를 일별 HyperLogLog에 병합 (하루 중 여러 번 방문한 유저는 한 번만 집계됨)
+        redisService.mergeHyperLogLog(dayKey, hourKey);
+        redisService.setExpireDate(dayKey, VisitService.DAY_VISIT_EXP);
 
-        redisService.removeData(key);
+        Long hourlyVisitorNum = redisService.countHyperLogLog(hourKey);
+        Long dailyVisitorNum = redisService.countHyperLogLog(dayKey);
+
+        // 시간별, 일별 방문자 수 갱신 (시간/날짜마다 한 행만 유지하므로 다시 실행해도 중복 행이 생기지 않는다)
+        // 시간별 HyperLogLog는 만료 시간(HOUR_VISIT_EXP)까지 남겨두어서, 다시 실행해도 같은 값으로 덮어쓴다
+        upsertVisit(VisitType.HOURLY, visitHour, hourlyVisitorNum);
+        upsertVisit(VisitType.DAILY, visitDay, dailyVisitorNum);
     }
 
     @Transactional
@@ -67,80 +61,76 @@ public class AuthenticationService {
 
         LocalDateTime now = LocalDateTime.now();
 
-        // 유저 통계
-        Long activeUsersNum = userRepository.countActiveUsers();
-        Long inActiveUsersNum = userRepository.countInActiveUsers();
+        // 미리 계산된 통계 스냅샷
+        Map<String, Long> stats = dashboardStatsService.findSnapshot();
 
-        AuthenticationResponse.UserStatsDTO userStatsDTO = new AuthenticationResponse.UserStatsDTO(activeUsersNum, inActiveUsersNum);
+        // 유저 통계
+        AuthenticationResponse.UserStatsDTO userStatsDTO = new AuthenticationResponse.UserStatsDTO(
+                stats.get(DashboardStatsService.ACTIVE_USERS),
+                stats.get(DashboardStatsService.INACTIVE_USERS)
+        );
 
         // 유기 동물 통계
-        Long waitingForAdoptionNum = animalRepository.countAnimal();
-        Long adoptionProcessingNum = applyRepository.countProcessing();
-        Long adoptedRecentlyNum = applyRepository.countProcessedWithinDate(now.minusWeeks(1));
-        Long adoptedTotalNum = applyRepository.countProcessed();
-
         AuthenticationResponse.AnimalStatsDTO animalStatsDTO = new AuthenticationResponse.AnimalStatsDTO(
-                waitingForAdoptionNum,
-                adoptionProcessingNum,
-                adoptedRecentlyNum,
-                adoptedTotalNum
+                stats.get(DashboardStatsService.WAITING_FOR_ADOPTION),
+                stats.get(DashboardStatsService.ADOPTION_PROCESSING),
+                stats.get(DashboardStatsService.ADOPTED_RECENTLY),
+                stats.get(DashboardStatsService.ADOPTED_TOTAL)
         );
 
-        // 일주일 전까지의 Vist 엔티티 불러오기
+        // 미리 집계된 일별 방문자 수 (일주일 전까지)
         LocalDateTime nowDateOnly = now.minusHours(0).withMinute(0).withSecond(0).withNano(0);
-        List<Visit> visits = visitRepository.findALlWithinDate(nowDateOnly.minusWeeks(1));
-
-        // 일별 방문자 수 집계
-        Map<LocalDate, Long> dailyVisitors = visits.stream()
-                .collect(Collectors.groupingBy(
-                        visit -> visit.getDate().toLocalDate(),
-                        Collectors.counting()
-                ));
-
-        List<AuthenticationResponse.DailyVisitorDTO> dailyVisitorDTOS = dailyVisitors.entrySet().stream()
-                .map(entry -> new AuthenticationResponse.DailyVisitorDTO(entry.getKey(), entry.getValue()))
-                .sorted(Comparator.comparing(AuthenticationResponse.DailyVisitorDTO::date))
+        List<AuthenticationResponse.DailyVisitorDTO> dailyVisitorDTOS = visitRepository.findAllByTypeWithinDate(VisitType.DAILY, nowDateOnly.minusWeeks(1)).stream()
+                .map(visit -> new AuthenticationResponse.DailyVisitorDTO(visit.getDate().toLocalDate(), visit.getVisitorNum()))
                 .collect(Collectors.toList());
 
-        // 시간별 방문자 수 집계 (오늘 날짜)
-        Map<LocalTime, Long> hourlyVisitors = visits.stream()
-                .filter(visit -> visit.getDate().toLocalDate().isEqual(LocalDate.now()))
-                .collect(Collectors.groupingBy(
-                        visit -> visit.getDate().toLocalTime().truncatedTo(ChronoUnit.HOURS),
-                        Collectors.counting()
-                ));
-
-        List<AuthenticationResponse.HourlyVisitorDTO> hourlyVisitorDTOS = hourlyVisitors.entrySet().stream()
-                .map(entry -> new AuthenticationResponse.HourlyVisitorDTO(LocalDateTime.of(LocalDate.now(), entry.getKey()), entry.getValue()))
-                .sorted(Comparator.comparing(AuthenticationResponse.HourlyVisitorDTO::hour))
+        // 미리 집계된 시간별 방문자 수 (오늘 날짜)
+        List<AuthenticationResponse.HourlyVisitorDTO> hourlyVisitorDTOS = visitRepository.findAllByTypeWithinDate(VisitType.HOURLY, LocalDate.now().atStartOfDay()).stream()
+                .map(visit -> new AuthenticationResponse.HourlyVisitorDTO(visit.getDate(), visit.getVisitorNum()))
                 .collect(Collectors.toList());
 
         // 오늘 발생한 이벤트 요약
-        Long entryNum = userRepository.countALlWithinDate(nowDateOnly);
-        Long newPostNum = postRepository.countALlWithinDate(nowDateOnly);
-        Long newCommentNum = commentRepository.countALlWithinDate(nowDateOnly);
-        Long newAdoptApplicationNum = applyRepository.countProcessingWithinDate(nowDateOnly);
-
         AuthenticationResponse.DailySummaryDTO dailySummaryDTO = new AuthenticationResponse.DailySummaryDTO(
-                entryNum,
-                newPostNum,
-                newCommentNum,
-                newAdoptApplicationNum
+                stats.get(DashboardStatsService.ENTRIES),
+                stats.get(DashboardStatsService.NEW_POST),
+                stats.get(DashboardStatsService.NEW_COMMENT),
+                stats.get(DashboardStatsService.NEW_ADOPT_APPLICATION)
         );
 
         return new AuthenticationResponse.FindDashboardStatsDTO(userStatsDTO, animalStatsDTO, dailyVisitorDTOS, hourlyVisitorDTOS, dailySummaryDTO);
     }
 
-    private String getPreviousHourKey() {
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH");
-        return "visit:" + oneHourAgo.format(formatter);
-    }
+    // 백그라운드 작업의 밀린 양과 처리 결과
+    public AuthenticationResponse.FindOperationStatsDTO findOperationStats(Long userId){
+        // 권한 체크
+        checkAdminAuthority(userId);
 
-    private LocalDateTime parseDateTimeFromKey(String key) {
-        int lastColon = key.lastIndexOf(':');
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH");
-        return LocalDateTime.parse(key.substring(lastColon + 1), formatter); // 마지막 ':' 이후부터 문자열을 파싱
+        AuthenticationResponse.ObjectCleanupStatsDTO objectCleanupStatsDTO = new AuthenticationResponse.ObjectCleanupStatsDTO(
+                objectCleanupService.countBacklog(),
+                objectCleanupService.getDeletedNum(),
+                objectCleanupService.getFailedNum()
+        );
+
+        AuthenticationResponse.AlarmRelayStatsDTO alarmRelayStatsDTO = new AuthenticationResponse.AlarmRelayStatsDTO(
+                alarmOutboxService.getPublishedNum(),
+                alarmOutboxService.getRelayLag()
+        );
+
+        List<AuthenticationResponse.FailedGroupDeletionDTO> failedDeletionDTOS = groupPurgeService.findFailedDeletions().stream()
+                .map(groupDeletion -> new AuthenticationResponse.FailedGroupDeletionDTO(
+                        groupDeletion.getGroupId(),
+                        groupDeletion.getStage().name(),
+                        groupDeletion.getAttemptNum(),
+                        groupDeletion.getLastError(),
+                        groupDeletion.getFailedAt()))
+                .toList();
+
+        AuthenticationResponse.GroupPurgeStatsDTO groupPurgeStatsDTO = new AuthenticationResponse.GroupPurgeStatsDTO(
+                groupPurgeService.countBacklog(),
+                failedDeletionDTOS
+        );
+
+        return new AuthenticationResponse.FindOperationStatsDTO(objectCleanupStatsDTO, alarmRelayStatsDTO, groupPurgeStatsDTO);
     }
 
     private void checkAdminAuthority(Long userId){
@@ -152,5 +142,16 @@ public class AuthenticationService {
             throw new CustomException(ExceptionCode.USER_FORBIDDEN);
         }
     }
+
+    private void upsertVisit(VisitType type, LocalDateTime date, Long visitorNum) {
+        visitRepository.findByTypeAndDate(type, date).ifPresentOrElse(
+                visit -> visit.updateVisitorNum(visitorNum),
+                () -> visitRepository.save(Visit.builder()
+                        .type(type)
+                        .date(date)
+                        .visitorNum(visitorNum)
+                        .build())
+        );
+    }
 }
 
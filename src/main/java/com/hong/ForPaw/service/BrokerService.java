@@ -3,6 +3,7 @@ package com.hong.ForPaw.service;
 import com.hong.ForPaw.controller.DTO.AlarmRequest;
 import com.hong.ForPaw.controller.DTO.ChatRequest;
 import com.hong.ForPaw.domain.Alarm.Alarm;
+import com.hong.ForPaw.domain.Alarm.AlarmOutbox;
 import com.hong.ForPaw.domain.Alarm.AlarmType;
 import com.hong.ForPaw.domain.Chat.ChatImage;
 import com.hong.ForPaw.domain.Chat.ChatRoom;
@@ -25,6 +26,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -168,4 +170,26 @@ public class BrokerService {
 
         rabbitTemplate.convertAndSend(exchangeName, routingKey, alarm);
     }
+
+    // 한 채널로 여러 알람을 발행한 뒤 브로커의 확인(publisher confirm)을 기다림. 하나라도 확인받지 못하면 예외 발생
+    // simple 발행 확인 모드는 RabbitMqConfig에서 켠다
+    public void produceAlarmsWithConfirm(List<AlarmOutbox> alarms, long timeout) {
+        String exchangeName = "alarm.exchange";
+
+        rabbitTemplate.invoke(operations -> {
+            alarms.forEach(alarm -> {
+                AlarmRequest.AlarmDTO alarmDTO = new AlarmRequest.AlarmDTO(
+                        alarm.getReceiverId(),
+                        alarm.getContent(),
+                        alarm.getRedirectURL(),
+                        alarm.getDate(),
+                        alarm.getAlarmType());
+
+                operations.convertAndSend(exchangeName, "user." + alarm.getRoutingId(), alarmDTO);
+            });
+
+            operations.waitForConfirmsOrDie(timeout);
+            return null;
+        });
+    }
 }
@@ -0,0 +1,132 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Apply.ApplyStatus;
+import com.hong.ForPaw.repository.Animal.AnimalRepository;
+import com.hong.ForPaw.repository.ApplyRepository;
+import com.hong.ForPaw.repository.Post.CommentRepository;
+import com.hong.ForPaw.repository.Post.PostRepository;
+import com.hong.ForPaw.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 관리자 대시보드 통계를 Redis 해시 하나에 유지
+// 도메인 이벤트(가입, 탈퇴, 글/댓글 작성, 입양 지원/취소)마다 카운터를 증감하고, 주기적으로 DB 기준으로 재계산해서 오차를 보정
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardStatsService {
+
+    private static final String STATS_KEY = "dashboardStats";
+    private static final String REBUILD_KEY = STATS_KEY + ":rebuild";
+
+    public static final String ACTIVE_USERS = "activeUsers";
+    public static final String INACTIVE_USERS = "inactiveUsers";
+    public static final String WAITING_FOR_ADOPTION = "waitingForAdoption";
+    public static final String ADOPTION_PROCESSING = "adoptionProcessing";
+    public static final String ADOPTED_RECENTLY = "adoptedRecently";
+    public static final String ADOPTED_TOTAL = "adoptedTotal";
+
+    // 오늘 발생한 이벤트는 "날짜:필드" 형태로 저장
+    public static final String ENTRIES = "entries";
+    public static final String NEW_POST = "newPost";
+    public static final String NEW_COMMENT = "newComment";
+    public static final String NEW_ADOPT_APPLICATION = "newAdoptApplication";
+
+    private static final List<String> TOTAL_FIELDS = List.of(ACTIVE_USERS, INACTIVE_USERS, WAITING_FOR_ADOPTION, ADOPTION_PROCESSING, ADOPTED_RECENTLY, ADOPTED_TOTAL);
+    private static final List<String> DAILY_FIELDS = List.of(ENTRIES, NEW_POST, NEW_COMMENT, NEW_ADOPT_APPLICATION);
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final AnimalRepository animalRepository;
+    private final ApplyRepository applyRepository;
+    private final RedisService redisService;
+
+    public void recordUserJoin() {
+        redisService.incrementHashValue(STATS_KEY, ACTIVE_USERS, 1L);
+        redisService.incrementHashValue(STATS_KEY, dailyField(ENTRIES), 1L);
+    }
+
+    // 비활성(정지) 상태로 탈퇴한 유저는 비활성 유저 수에서 뺀다
+    public void recordUserWithdraw(boolean active) {
+        redisService.incrementHashValue(STATS_KEY, active ? ACTIVE_USERS : INACTIVE_USERS, -1L);
+    }
+
+    public void recordPostCreated() {
+        redisService.incrementHashValue(STATS_KEY, dailyField(NEW_POST), 1L);
+    }
+
+    public void recordCommentCreated() {
+        redisService.incrementHashValue(STATS_KEY, dailyField(NEW_COMMENT), 1L);
+    }
+
+    public void recordApplySubmitted() {
+        redisService.incrementHashValue(STATS_KEY, ADOPTION_PROCESSING, 1L);
+        redisService.incrementHashValue(STATS_KEY, dailyField(NEW_ADOPT_APPLICATION), 1L);
+    }
+
+    // 최근 입양 수는 기간 기준이라 여기서 빼지 않고 재계산 때 보정
+    public void recordAppliesDeleted(List<ApplyStatus> statuses) {
+        long processingNum = statuses.stream().filter(status -> status == ApplyStatus.PROCESSING).count();
+        long processedNum = statuses.stream().filter(status -> status == ApplyStatus.PROCESSED).count();
+
+        if (processingNum > 0) {
+            redisService.incrementHashValue(STATS_KEY, ADOPTION_PROCESSING, -processingNum);
+        }
+        if (processedNum > 0) {
+            redisService.incrementHashValue(STATS_KEY, ADOPTED_TOTAL, -processedNum);
+        }
+    }
+
+    // 대시보드는 HGETALL 한 번으로 통계를 읽는다. 스냅샷이 아직 없으면 즉시 재계산
+    public Map<String, Long> findSnapshot() {
+        Map<String, String> cached = redisService.getHashEntries(STATS_KEY);
+        Map<String, String> entries = cached.keySet().containsAll(TOTAL_FIELDS) ? cached : reconcileStats();
+
+        Map<String, Long> snapshot = new HashMap<>();
+        TOTAL_FIELDS.forEach(field -> snapshot.put(field, Long.valueOf(entries.get(field))));
+        DAILY_FIELDS.forEach(field -> snapshot.put(field, Long.valueOf(entries.getOrDefault(dailyField(field), "0"))));
+
+        return snapshot;
+    }
+
+    // 증감 도중 롤백되었거나 누락된 이벤트, 기간 기준 통계(최근 입양 수 등)를 DB 기준으로 보정
+    @Scheduled(cron = "0 */10 * * * *") // 10분마다 실행
+    public Map<String, String> reconcileStats() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime today = now.toLocalDate().atStartOfDay();
+
+        Map<String, String> entries = new HashMap<>();
+        entries.put(ACTIVE_USERS, userRepository.countActiveUsers().toString());
+        entries.put(INACTIVE_USERS, userRepository.countInActiveUsers().toString());
+        entries.put(WAITING_FOR_ADOPTION, animalRepository.countAnimal().toString());
+        entries.put(ADOPTION_PROCESSING, applyRepository.countProcessing().toString());
+        entries.put(ADOPTED_RECENTLY, applyRepository.countProcessedWithinDate(now.minusWeeks(1)).toString());
+        entries.put(ADOPTED_TOTAL, applyRepository.countProcessed().toString());
+
+        entries.put(dailyField(ENTRIES), userRepository.countALlWithinDate(today).toString());
+        entries.put(dailyField(NEW_POST), postRepository.countALlWithinDate(today).toString());
+        entries.put(dailyField(NEW_COMMENT), commentRepository.countALlWithinDate(today).toString());
+        entries.put(dailyField(NEW_ADOPT_APPLICATION), applyRepository.countProcessingWithinDate(today).toString());
+
+        // 지난 날짜의 필드가 남지 않도록 통째로 교체
+        // 임시 키에 쌓은 뒤 이름을 바꿔서 교체 (RENAME은 원자적이라 조회 중에 빈 해시가 보이지 않는다)
+        redisService.removeData(REBUILD_KEY);
+        redisService.putHashEntries(REBUILD_KEY, entries);
+        redisService.renameKey(REBUILD_KEY, STATS_KEY);
+
+        return entries;
+    }
+
+    private String dailyField(String field) {
+        return LocalDate.now() + ":" + field;
+    }
+}
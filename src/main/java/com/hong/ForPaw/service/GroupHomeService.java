@@ -0,0 +1,287 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.controller.DTO.GroupResponse;
+import com.hong.ForPaw.core.errors.CustomException;
+import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.domain.District;
+import com.hong.ForPaw.domain.Group.Group;
+import com.hong.ForPaw.domain.Province;
+import com.hong.ForPaw.repository.Group.FavoriteGroupRepository;
+import com.hong.ForPaw.repository.Group.GroupRepository;
+import com.hong.ForPaw.repository.Group.GroupUserRepository;
+import com.hong.ForPaw.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 그룹 홈 화면(추천, 지역, 새 그룹, 내 그룹) 조립
+// 가입/좋아요한 그룹 id는 한 번만 불러오고, 섹션별 쿼리는 동시에 실행하며, 좋아요 수는 MGET 한 번으로 가져온다
+// 추천 그룹은 미리 계산된 지역별 후보(GroupRecommendService)에서 뽑아서 id로만 조회한다
+// 섹션마다 걸린 시간은 debug 로그로 남긴다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupHomeService {
+
+    private static final Province DEFAULT_PROVINCE = Province.DAEGU;
+    private static final District DEFAULT_DISTRICT = District.SUSEONG;
+    private static final int SECTION_SIZE = 5; // 이 API의 페이지네이션은 0페이지인 5개만 보내줄 것이다.
+    private static final int RECOMMEND_CANDIDATE_SIZE = 30; // 로그인하지 않은 유저에게 섞어서 보여줄 후보 수
+    private static final Long ANONYMOUS_CACHE_EXP = 1000L * 60; // 1분
+    private static final Long SECTION_TIMEOUT = 1000L * 3; // 3초
+
+    private final GroupRepository groupRepository;
+    private final GroupUserRepository groupUserRepository;
+    private final FavoriteGroupRepository favoriteGroupRepository;
+    private final UserRepository userRepository;
+    private final LikeService likeService;
+    private final GroupRecommendService groupRecommendService;
+
+    // 섹션 쿼리 전용 스레드 (요청당 최대 4개의 쿼리가 동시에 실행됨, 크기는 ExecutorConfig 참고)
+    private final ThreadPoolTaskExecutor groupHomeExecutor;
+
+    // 로그인하지 않은 유저는 모두 기본 지역의 같은 결과를 받으므로 잠깐 캐싱
+    private final AtomicReference<CachedHome> anonymousHome = new AtomicReference<>();
+
+    public GroupResponse.FindAllGroupListDTO findGroupList(Long userId){
+        if(userId == null){
+            return findAnonymousGroupList();
+        }
+
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+
+        // 지역, 가입한 그룹 id, 좋아요한 그룹 id, 내 그룹을 동시에 조회
+        CompletableFuture<UserRepository.LocationProjection> locationFuture = supplyTimed("location", timings,
+                () -> userRepository.findLocationById(userId).orElseThrow(() -> new CustomException(ExceptionCode.USER_NOT_FOUND)));
+        CompletableFuture<Set<Long>> joinedFuture = supplyTimed("joinedGroupIds", timings,
+                () -> new HashSet<>(groupUserRepository.findGroupIdsByUserId(userId)));
+        CompletableFuture<Set<Long>> likedFuture = supplyTimed("likedGroupIds", timings,
+                () -> new HashSet<>(favoriteGroupRepository.findLikedGroupIdsByUserId(userId)));
+        CompletableFuture<List<Group>> myFuture = supplyTimed("myGroups", timings,
+                () -> groupUserRepository.findGroupsByUserId(userId, createPageable("id")));
+
+        UserRepository.LocationProjection location = await(locationFuture);
+        Set<Long> joinedGroupIds = await(joinedFuture);
+
+        // 가입한 그룹이 걸러져도 5개가 남도록 여유 있게 뽑는다
+        GroupSections sections = findSections(location.getProvince(), location.getDistrict(), SECTION_SIZE + joinedGroupIds.size(), timings);
+
+        // 내가 가입한 그룹은 추천, 지역, 새 그룹에서 제외
+        Set<Long> likedGroupIds = await(likedFuture);
+        List<Group> recommendGroups = excludeJoined(sections.recommendGroups(), joinedGroupIds);
+        List<Group> localGroups = excludeJoined(sections.localGroups(), joinedGroupIds);
+        List<Group> newGroups = excludeJoined(sections.newGroups(), joinedGroupIds);
+        List<Group> myGroups = await(myFuture);
+
+        Map<Long, Long> likeNums = findLikeNums(Stream.of(recommendGroups, localGroups, myGroups).flatMap(List::stream).toList());
+
+        List<GroupResponse.RecommendGroupDTO> recommendGroupDTOS = pickRecommendGroups(recommendGroups.stream()
+                .map(group -> toRecommendGroupDTO(group, likeNums, likedGroupIds))
+                .collect(Collectors.toList()));
+
+        List<GroupResponse.LocalGroupDTO> localGroupDTOS = localGroups.stream()
+                .map(group -> toLocalGroupDTO(group, likeNums, likedGroupIds))
+                .collect(Collectors.toList());
+
+        List<GroupResponse.NewGroupDTO> newGroupDTOS = newGroups.stream()
+                .map(this::toNewGroupDTO)
+                .collect(Collectors.toList());
+
+        List<GroupResponse.MyGroupDTO> myGroupDTOS = myGroups.stream()
+                .map(group -> toMyGroupDTO(group, likeNums, likedGroupIds))
+                .collect(Collectors.toList());
+
+        timings.put("total", elapsedMillis(start));
+        log.debug("그룹 홈 조회 시간(ms) userId={} {}", userId, timings);
+
+        return new GroupResponse.FindAllGroupListDTO(recommendGroupDTOS, newGroupDTOS, localGroupDTOS, myGroupDTOS);
+    }
+
+    private GroupResponse.FindAllGroupListDTO findAnonymousGroupList(){
+        CachedHome cachedHome = anonymousHome.get();
+
+        if(cachedHome == null || cachedHome.expiresAt() < System.currentTimeMillis()){
+            cachedHome = loadAnonymousHome();
+            anonymousHome.set(cachedHome);
+        }
+
+        // 추천 후보는 캐싱해두고, 요청마다 다시 섞어서 보내준다
+        List<GroupResponse.RecommendGroupDTO> recommendGroupDTOS = pickRecommendGroups(new ArrayList<>(cachedHome.recommendGroups()));
+
+        return new GroupResponse.FindAllGroupListDTO(recommendGroupDTOS, cachedHome.newGroups(), cachedHome.localGroups(), new ArrayList<>());
+    }
+
+    private CachedHome loadAnonymousHome(){
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+
+        GroupSections sections = findSections(DEFAULT_PROVINCE, DEFAULT_DISTRICT, RECOMMEND_CANDIDATE_SIZE, timings);
+        Map<Long, Long> likeNums = findLikeNums(Stream.of(sections.recommendGroups(), sections.localGroups()).flatMap(List::stream).toList());
+        Set<Long> likedGroupIds = Collections.emptySet();
+
+        List<GroupResponse.RecommendGroupDTO> recommendGroupDTOS = sections.recommendGroups().stream()
+                .map(group -> toRecommendGroupDTO(group, likeNums, likedGroupIds))
+                .toList();
+
+        List<GroupResponse.LocalGroupDTO> localGroupDTOS = sections.localGroups().stream()
+                .map(group -> toLocalGroupDTO(group, likeNums, likedGroupIds))
+                .toList();
+
+        List<GroupResponse.NewGroupDTO> newGroupDTOS = sections.newGroups().stream()
+                .map(this::toNewGroupDTO)
+                .toList();
+
+        timings.put("total", elapsedMillis(start));
+        log.debug("그룹 홈 조회 시간(ms) anonymous {}", timings);
+
+        return new CachedHome(recommendGroupDTOS, localGroupDTOS, newGroupDTOS, System.currentTimeMillis() + ANONYMOUS_CACHE_EXP);
+    }
+
+    // 추천, 지역, 새 그룹 쿼리를 동시에 실행
+    private GroupSections findSections(Province province, District district, int recommendSampleSize, Map<String, Long> timings){
+        // 추천 후보에서 무작위로 뽑은 id로만 조회 (MySQL 정렬 없음)
+        CompletableFuture<List<Group>> recommendFuture = supplyTimed("recommendGroups", timings, () -> {
+            List<Long> groupIds = groupRecommendService.sampleCandidateIds(province, recommendSampleSize);
+            return groupIds.isEmpty() ? new ArrayList<>() : groupRepository.findAllById(groupIds);
+        });
+        CompletableFuture<List<Group>> localFuture = supplyTimed("localGroups", timings,
+                () -> groupRepository.findGroupsByProvinceAndDistrict(province, district, createPageable("id")));
+        CompletableFuture<List<Group>> newFuture = supplyTimed("newGroups", timings,
+                () -> groupRepository.findGroupsByProvince(province, createPageable("id")));
+
+        return new GroupSections(await(recommendFuture), await(localFuture), await(newFuture));
+    }
+
+    // 여러 섹션에 같은 그룹이 있을 수 있으므로 중복을 뺀 뒤, 다른 목록과 같은 기준(Redis 값이 없으면 DB 값)으로 조회
+    private Map<Long, Long> findLikeNums(List<Group> groups){
+        List<Group> distinctGroups = new ArrayList<>(groups.stream()
+                .collect(Collectors.toMap(Group::getId, group -> group, (existing, duplicate) -> existing, LinkedHashMap::new))
+                .values());
+
+        return likeService.findLikeNums(LikeService.LikeTarget.GROUP, distinctGroups, Group::getId, Group::getLikeNum);
+    }
+
+    // 매번 동일하게 추천을 할 수는 없으니, 간추린 추천 목록 중에서 5개를 랜덤으로 보내준다.
+    private List<GroupResponse.RecommendGroupDTO> pickRecommendGroups(List<GroupResponse.RecommendGroupDTO> candidates){
+        Collections.shuffle(candidates);
+
+        return candidates.stream()
+                .limit(SECTION_SIZE)
+                .collect(Collectors.toList());
+    }
+
+    private List<Group> excludeJoined(List<Group> groups, Set<Long> joinedGroupIds){
+        return groups.stream()
+                .filter(group -> !joinedGroupIds.contains(group.getId()))
+                .toList();
+    }
+
+    private GroupResponse.RecommendGroupDTO toRecommendGroupDTO(Group group, Map<Long, Long> likeNums, Set<Long> likedGroupIds){
+        return new GroupResponse.RecommendGroupDTO(
+                group.getId(),
+                group.getName(),
+                group.getDescription(),
+                group.getParticipantNum(),
+                group.getCategory(),
+                group.getProvince(),
+                group.getDistrict(),
+                group.getProfileURL(),
+                likeNums.get(group.getId()),
+                likedGroupIds.contains(group.getId()));
+    }
+
+    private GroupResponse.LocalGroupDTO toLocalGroupDTO(Group group, Map<Long, Long> likeNums, Set<Long> likedGroupIds){
+        return new GroupResponse.LocalGroupDTO(
+                group.getId(),
+                group.getName(),
+                group.getDescription(),
+                group.getParticipantNum(),
+                group.getCategory(),
+                group.getProvince(),
+                group.getDistrict(),
+                group.getProfileURL(),
+                likeNums.get(group.getId()),
+                likedGroupIds.contains(group.getId()));
+    }
+
+    private GroupResponse.NewGroupDTO toNewGroupDTO(Group group){
+        return new GroupResponse.NewGroupDTO(
+                group.getId(),
+                group.getName(),
+                group.getCategory(),
+                group.getProvince(),
+                group.getDistrict(),
+                group.getProfileURL());
+    }
+
+    private GroupResponse.MyGroupDTO toMyGroupDTO(Group group, Map<Long, Long> likeNums, Set<Long> likedGroupIds){
+        return new GroupResponse.MyGroupDTO(
+                group.getId(),
+                group.getName(),
+                group.getDescription(),
+                group.getParticipantNum(),
+                group.getCategory(),
+                group.getProvince(),
+                group.getDistrict(),
+                group.getProfileURL(),
+                likeNums.get(group.getId()),
+                likedGroupIds.contains(group.getId()));
+    }
+
+    // 섹션별 소요 시간을 기록하면서 비동기로 실행
+    private <T> CompletableFuture<T> supplyTimed(String section, Map<String, Long> timings, Supplier<T> supplier){
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return supplier.get();
+            } finally {
+                timings.put(section, elapsedMillis(start));
+            }
+        }, groupHomeExecutor);
+    }
+
+    // 섹션 쿼리에서 발생한 CustomException은 그대로 던진다
+    private <T> T await(CompletableFuture<T> future){
+        try {
+            return future.get(SECTION_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException runtimeException){
+                throw runtimeException;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new CompletionException(e);
+        }
+    }
+
+    private long elapsedMillis(long start){
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private Pageable createPageable(String sortProperty){
+        return PageRequest.of(0, SECTION_SIZE, Sort.by(Sort.Direction.DESC, sortProperty));
+    }
+
+    private record GroupSections(List<Group> recommendGroups, List<Group> localGroups, List<Group> newGroups) {}
+
+    private record CachedHome(List<GroupResponse.RecommendGroupDTO> recommendGroups,
+                              List<GroupResponse.LocalGroupDTO> localGroups,
+                              List<GroupResponse.NewGroupDTO> newGroups,
+                              long expiresAt) {}
+}
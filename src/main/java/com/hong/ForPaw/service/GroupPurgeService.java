@@ -0,0 +1,173 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Chat.ChatRoom;
+import com.hong.ForPaw.domain.Group.GroupDeletion;
+import com.hong.ForPaw.domain.Group.GroupDeletionStage;
+import com.hong.ForPaw.repository.Chat.ChatImageRepository;
+import com.hong.ForPaw.repository.Chat.ChatRoomRepository;
+import com.hong.ForPaw.repository.Chat.ChatUserRepository;
+import com.hong.ForPaw.repository.Group.*;
+import com.hong.ForPaw.repository.Post.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 그룹 삭제 요청을 받으면 삭제 중으로 표시만 하고, 연관 데이터는 백그라운드에서 청크 단위로 정리
+// 청크마다 별도 트랜잭션으로 처리해서 큰 그룹도 락을 오래 잡지 않으며, 진행 단계를 함께 저장하므로 중단되어도 이어서 진행된다
+// 한 그룹에서 실패하면 실패 횟수와 에러를 기록하고 다음 그룹으로 넘어간다. 최대 실패 횟수에 도달하면 실패로 표시하고 운영자가 확인하도록 남겨둔다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupPurgeService {
+
+    private static final int CHUNK_SIZE = 1000; // 한 번에 지우는 최대 행 수
+    private static final int GROUP_BATCH_SIZE = 10;
+    private static final Long TIME_BUDGET = 1000L * 30; // 한 번 실행할 때 최대 30초까지만 처리
+    private static final int MAX_ERROR_LENGTH = 255;
+    private static final int MAX_ATTEMPT_NUM = 5; // 이 횟수만큼 실패하면 자동 재시도를 멈춘다
+
+    private final GroupDeletionRepository groupDeletionRepository;
+    private final GroupRepository groupRepository;
+    private final GroupUserRepository groupUserRepository;
+    private final FavoriteGroupRepository favoriteGroupRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingUserRepository meetingUserRepository;
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostReadStatusRepository postReadStatusRepository;
+    private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatUserRepository chatUserRepository;
+    private final ChatImageRepository chatImageRepository;
+    private final BrokerService brokerService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 그룹 삭제와 같은 트랜잭션에서 저장 (롤백되면 함께 취소)
+    @Transactional
+    public void requestPurge(Long groupId){
+        groupDeletionRepository.save(GroupDeletion.builder()
+                .groupId(groupId)
+                .build());
+    }
+
+    @Scheduled(fixedDelay = 1000 * 5) // 5초마다 실행
+    public void purgeGroups(){
+        long deadline = System.currentTimeMillis() + TIME_BUDGET;
+        List<GroupDeletion> groupDeletions = groupDeletionRepository.findPending(PageRequest.of(0, GROUP_BATCH_SIZE));
+
+        for (GroupDeletion groupDeletion : groupDeletions) {
+            try {
+                // 시간을 다 쓰면 다음 실행에서 저장된 단계부터 이어서 진행
+                if(!purgeGroup(groupDeletion.getId(), deadline)){
+                    return;
+                }
+            } catch (RuntimeException e) { // DB, 메시지 브로커 등 어떤 이유로 실패해도 다음 그룹은 계속 진행
+                log.warn("그룹 삭제 실패 groupId={} 단계={}: {}", groupDeletion.getGroupId(), groupDeletion.getStage(), e.getMessage());
+                recordFailure(groupDeletion.getId(), e);
+            }
+        }
+    }
+
+    private void recordFailure(Long groupDeletionId, RuntimeException e){
+        String error = String.valueOf(e.getMessage());
+        String truncatedError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> groupDeletionRepository.findById(groupDeletionId)
+                    .ifPresent(groupDeletion -> {
+                        groupDeletion.recordFailure(truncatedError, MAX_ATTEMPT_NUM);
+
+                        if(groupDeletion.isFailed()){
+                            log.error("그룹 삭제 중단 groupId={} 단계={} ({}회 실패): {}", groupDeletion.getGroupId(), groupDeletion.getStage(), groupDeletion.getAttemptNum(), truncatedError);
+                        }
+                    }));
+        } catch (RuntimeException recordException) {
+            log.warn("그룹 삭제 실패 기록 실패 groupDeletionId={}: {}", groupDeletionId, recordException.getMessage());
+        }
+    }
+
+    private boolean purgeGroup(Long groupDeletionId, long deadline){
+        while (System.currentTimeMillis() < deadline) {
+            Boolean completed = transactionTemplate.execute(status -> purgeChunk(groupDeletionId));
+
+            if(Boolean.TRUE.equals(completed)){
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // 현재 단계에서 한 청크를 지우고 진행 상황을 같은 트랜잭션에 저장, 모든 단계가 끝나면 true
+    private boolean purgeChunk(Long groupDeletionId){
+        GroupDeletion groupDeletion = groupDeletionRepository.findById(groupDeletionId).orElse(null);
+        if(groupDeletion == null){
+            return true;
+        }
+
+        Long groupId = groupDeletion.getGroupId();
+
+        if(groupDeletion.getStage() == GroupDeletionStage.GROUP){
+            groupRepository.deleteDeletingGroup(groupId);
+            groupDeletionRepository.delete(groupDeletion);
+            log.info("그룹 삭제 완료 groupId={} (정리한 행 {}개)", groupId, groupDeletion.getProcessedNum());
+            return true;
+        }
+
+        int deletedNum = switch (groupDeletion.getStage()) {
+            case MEETING_USER -> meetingUserRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case MEETING -> meetingRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case FAVORITE_GROUP -> favoriteGroupRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case GROUP_USER -> groupUserRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case POST_LIKE -> postLikeRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case POST_READ_STATUS -> postReadStatusRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case COMMENT_LIKE -> commentLikeRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case COMMENT -> commentRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case POST -> postRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case POST_GROUP -> postRepository.detachChunkByGroupId(groupId, CHUNK_SIZE);
+            case CHAT_USER -> chatUserRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case CHAT_IMAGE -> chatImageRepository.deleteChunkByGroupId(groupId, CHUNK_SIZE);
+            case CHAT_ROOM -> deleteChatRoom(groupId);
+            case GROUP -> 0;
+        };
+
+        groupDeletion.addProcessedNum(deletedNum);
+
+        // 청크보다 적게 지워졌으면 이 단계는 끝
+        if(deletedNum < CHUNK_SIZE){
+            log.debug("그룹 삭제 진행 groupId={} 단계={} 완료 (누적 {}개)", groupId, groupDeletion.getStage(), groupDeletion.getProcessedNum());
+            groupDeletion.nextStage();
+        }
+
+        return false;
+    }
+
+    private int deleteChatRoom(Long groupId){
+        ChatRoom chatRoom = chatRoomRepository.findByGroupId(groupId);
+        if(chatRoom == null){
+            return 0;
+        }
+
+        brokerService.deleteQueue("room." + chatRoom.getId()); // 채팅방 큐 삭제
+        chatRoomRepository.deleteAllByGroupId(groupId);
+
+        return 1;
+    }
+
+    // 아직 정리 중인 그룹 수 (실패로 표시된 작업 제외)
+    public Long countBacklog(){
+        return groupDeletionRepository.countPending();
+    }
+
+    // 최대 실패 횟수에 도달해서 멈춘 작업
+    public List<GroupDeletion> findFailedDeletions(){
+        return groupDeletionRepository.findFailed();
+    }
+}
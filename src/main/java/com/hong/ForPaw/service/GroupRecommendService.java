@@ -0,0 +1,211 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Province;
+import com.hong.ForPaw.repository.Group.GroupRepository;
+import com.hong.ForPaw.repository.Group.MeetingRepository;
+import com.hong.ForPaw.repository.Post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 지역별 그룹 추천 후보. 좋아요, 참여자 수, 최근 활동(공지, 모임)을 섞은 점수를 정렬 집합 "groupRecommend:{province}"에 유지
+// 좋아요/가입/탈퇴/공지/모임 생성 시 점수를 바로 증감하고, 상위 N개만 따로 모아둔 집합에서 ZRANDMEMBER로 뽑아서 보내준다
+// 증감 중 누락된 값과 오래된 활동 점수는 주기적으로 DB 기준으로 다시 계산해서 보정
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GroupRecommendService {
+
+    private static final String PROVINCE_KEY = "groupProvince"; // groupId => province
+    private static final int CANDIDATE_SIZE = 30;
+    private static final int ACTIVITY_DAYS = 7;
+
+    private static final double LIKE_WEIGHT = 2;
+    private static final double PARTICIPANT_WEIGHT = 1;
+    private static final double ACTIVITY_WEIGHT = 3;
+
+    private final GroupRepository groupRepository;
+    private final PostRepository postRepository;
+    private final MeetingRepository meetingRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final LikeService likeService;
+
+    public void recordGroupCreated(Long groupId, Province province){
+        redisTemplate.opsForHash().put(PROVINCE_KEY, groupId.toString(), province.name());
+        redisTemplate.opsForZSet().add(buildScoreKey(province), groupId.toString(), PARTICIPANT_WEIGHT);
+    }
+
+    public void recordGroupDeleted(Long groupId){
+        Province province = findProvince(groupId);
+        if(province != null){
+            redisTemplate.opsForZSet().remove(buildScoreKey(province), groupId.toString());
+            redisTemplate.opsForZSet().remove(buildCandidateKey(province), groupId.toString());
+        }
+
+        redisTemplate.opsForHash().delete(PROVINCE_KEY, groupId.toString());
+    }
+
+    // 그룹의 지역이 바뀌면 점수를 새 지역 집합으로 옮긴다
+    public void recordProvinceChanged(Long groupId, Province oldProvince, Province newProvince){
+        if(oldProvince == newProvince) return;
+
+        Double score = redisTemplate.opsForZSet().score(buildScoreKey(oldProvince), groupId.toString());
+        redisTemplate.opsForZSet().remove(buildScoreKey(oldProvince), groupId.toString());
+        redisTemplate.opsForZSet().remove(buildCandidateKey(oldProvince), groupId.toString());
+        redisTemplate.opsForHash().put(PROVINCE_KEY, groupId.toString(), newProvince.name());
+
+        if(score != null && Boolean.TRUE.equals(redisTemplate.hasKey(buildScoreKey(newProvince)))){
+            redisTemplate.opsForZSet().add(buildScoreKey(newProvince), groupId.toString(), score);
+        }
+    }
+
+    public void recordLike(Long groupId, boolean liked){
+        addScore(groupId, liked ? LIKE_WEIGHT : -LIKE_WEIGHT);
+    }
+
+    public void recordJoin(Long groupId){
+        addScore(groupId, PARTICIPANT_WEIGHT);
+    }
+
+    public void recordJoins(Long groupId, int num){
+        addScore(groupId, PARTICIPANT_WEIGHT * num);
+    }
+
+    public void recordWithdraw(Long groupId){
+        addScore(groupId, -PARTICIPANT_WEIGHT);
+    }
+
+    public void recordActivity(Long groupId){
+        addScore(groupId, ACTIVITY_WEIGHT);
+    }
+
+    // 상위 후보 중에서 count개를 무작위로 뽑는다 (중복 없음)
+    // 조회 중에는 DB로 다시 계산하지 않는다. 점수 집합이 없으면(그룹이 없는 지역이거나 Redis가 비워짐) 빈 목록을 반환하고,
+    // 비워진 경우는 다음 정기 재계산(매시 30분)에서 채워진다
+    public List<Long> sampleCandidateIds(Province province, long count){
+        String candidateKey = buildCandidateKey(province);
+
+        if(!Boolean.TRUE.equals(redisTemplate.hasKey(candidateKey))){
+            refreshCandidates(province);
+        }
+
+        Set<String> groupIds = redisTemplate.opsForZSet().distinctRandomMembers(candidateKey, Math.min(count, CANDIDATE_SIZE));
+        if(groupIds == null) return new ArrayList<>();
+
+        return groupIds.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    // 점수 집합에서 상위 N개만 후보 집합으로 복사
+    @Scheduled(fixedDelay = 1000 * 60) // 1분마다 실행
+    public void refreshAllCandidates(){
+        Arrays.stream(Province.values()).forEach(this::refreshCandidates);
+    }
+
+    // 오래된 활동 점수가 빠지도록 DB 기준으로 점수를 다시 계산
+    @Scheduled(cron = "0 30 * * * *") // 매시 30분
+    public void rebuildCandidates(){
+        LocalDateTime since = LocalDateTime.now().minusDays(ACTIVITY_DAYS);
+
+        Map<Long, Long> activityNums = new HashMap<>();
+        postRepository.countByGroupWithinDate(since).forEach(row -> activityNums.merge(row.getGroupId(), row.getCount(), Long::sum));
+        meetingRepository.countByGroupWithinDate(since).forEach(row -> activityNums.merge(row.getGroupId(), row.getCount(), Long::sum));
+
+        // 좋아요 수는 Redis가 최신 값이므로 MGET 한 번으로 가져오고, 없으면 DB 값을 사용
+        List<GroupRepository.RecommendSourceProjection> groups = groupRepository.findRecommendSources();
+        Map<Long, Long> likeNums = likeService.findLikeNums(LikeService.LikeTarget.GROUP, groups,
+                GroupRepository.RecommendSourceProjection::getId,
+                group -> Optional.ofNullable(group.getLikeNum()).orElse(0L));
+
+        Map<Province, Set<ZSetOperations.TypedTuple<String>>> scores = new EnumMap<>(Province.class);
+        Map<String, String> provinces = new HashMap<>();
+
+        for (GroupRepository.RecommendSourceProjection group : groups) {
+            long likeNum = likeNums.get(group.getId());
+
+            double score = likeNum * LIKE_WEIGHT
+                    + group.getParticipantNum() * PARTICIPANT_WEIGHT
+                    + activityNums.getOrDefault(group.getId(), 0L) * ACTIVITY_WEIGHT;
+
+            scores.computeIfAbsent(group.getProvince(), key -> new HashSet<>())
+                    .add(ZSetOperations.TypedTuple.of(group.getId().toString(), score));
+            provinces.put(group.getId().toString(), group.getProvince().name());
+        }
+
+        if(!provinces.isEmpty()){
+            redisTemplate.opsForHash().putAll(PROVINCE_KEY, provinces);
+        }
+
+        // 새 점수를 임시 키에 쌓은 뒤 이름을 바꿔서 교체 (조회 중에 빈 집합이 보이지 않도록)
+        for (Province province : Province.values()) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = scores.get(province);
+
+            // 그룹이 없는 지역은 키를 지운다 (새 그룹이 생기면 recordGroupCreated에서 다시 만들어짐)
+            if(tuples == null){
+                redisTemplate.delete(buildScoreKey(province));
+                redisTemplate.delete(buildCandidateKey(province));
+                continue;
+            }
+
+            String tempKey = buildScoreKey(province) + ":rebuild";
+            redisTemplate.delete(tempKey);
+            redisTemplate.opsForZSet().add(tempKey, tuples);
+            redisTemplate.rename(tempKey, buildScoreKey(province));
+
+            refreshCandidates(province);
+        }
+    }
+
+    private void refreshCandidates(Province province){
+        String scoreKey = buildScoreKey(province);
+        if(!Boolean.TRUE.equals(redisTemplate.hasKey(scoreKey))){
+            return;
+        }
+
+        String candidateKey = buildCandidateKey(province);
+        redisTemplate.opsForZSet().unionAndStore(scoreKey, Collections.emptyList(), candidateKey, Aggregate.SUM, Weights.of(1));
+        redisTemplate.opsForZSet().removeRange(candidateKey, 0, -(CANDIDATE_SIZE + 1));
+    }
+
+    private void addScore(Long groupId, double delta){
+        Province province = findProvince(groupId);
+        if(province == null) return;
+
+        String scoreKey = buildScoreKey(province);
+        // 점수 집합이 아직 없으면 다음 재계산에서 반영된다
+        if(Boolean.TRUE.equals(redisTemplate.hasKey(scoreKey))){
+            redisTemplate.opsForZSet().incrementScore(scoreKey, groupId.toString(), delta);
+        }
+    }
+
+    // 해시에 없을 때만 DB에서 조회
+    private Province findProvince(Long groupId){
+        Object cached = redisTemplate.opsForHash().get(PROVINCE_KEY, groupId.toString());
+        if(cached != null){
+            return Province.valueOf(cached.toString());
+        }
+
+        Optional<Province> province = groupRepository.findProvinceById(groupId);
+        province.ifPresent(value -> redisTemplate.opsForHash().put(PROVINCE_KEY, groupId.toString(), value.name()));
+
+        return province.orElse(null);
+    }
+
+    private String buildScoreKey(Province province){
+        return "groupRecommend:" + province.name();
+    }
+
+    private String buildCandidateKey(Province province){
+        return "groupRecommend:" + province.name() + ":top";
+    }
+}
@@ -0,0 +1,122 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Group.GroupRole;
+import com.hong.ForPaw.repository.Group.GroupUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 그룹 권한 체크에 쓰는 (groupId, userId) => 역할 캐시
+// 서버 메모리의 near-cache, 그룹별 Redis 해시 "groupRole:{groupId}" 순서로 확인하고, 둘 다 없을 때만 DB에서 역할만 조회
+// 가입/승인/거절/역할 변경/탈퇴/그룹 삭제 시 커밋 이후에 Redis 값을 바꾸고 near-cache를 비운다
+@Service
+@RequiredArgsConstructor
+public class GroupRoleCacheService {
+
+    private static final Long ROLE_EXP = 1000L * 60 * 60 * 24; // 24시간
+    private static final Long LOCAL_EXP = 1000L * 5; // 다른 서버에서 바뀐 역할은 최대 5초 늦게 반영
+    private static final String NONE = "NONE"; // 가입 기록 없음
+
+    private final GroupUserRepository groupUserRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Map<RoleKey, LocalRole> localRoles = new ConcurrentHashMap<>();
+
+    // 가입 기록이 없으면 null
+    public GroupRole getRole(Long groupId, Long userId) {
+        RoleKey roleKey = new RoleKey(groupId, userId);
+        long now = System.currentTimeMillis();
+
+        LocalRole localRole = localRoles.get(roleKey);
+        if (localRole != null && localRole.expiresAt() > now) {
+            return localRole.role();
+        }
+
+        String key = buildKey(groupId);
+        Object cached = redisTemplate.opsForHash().get(key, userId.toString());
+        String value = cached != null ? cached.toString() : loadRole(key, groupId, userId);
+
+        GroupRole role = NONE.equals(value) ? null : GroupRole.valueOf(value);
+        localRoles.put(roleKey, new LocalRole(role, now + LOCAL_EXP));
+
+        return role;
+    }
+
+    // role이 null이면 가입 기록이 없는 상태로 저장
+    public void updateRole(Long groupId, Long userId, GroupRole role) {
+        runAfterCommit(() -> {
+            String key = buildKey(groupId);
+            redisTemplate.opsForHash().put(key, userId.toString(), role != null ? role.name() : NONE);
+            redisTemplate.expire(key, Duration.ofMillis(ROLE_EXP));
+            localRoles.remove(new RoleKey(groupId, userId));
+        });
+    }
+
+    public void updateRoles(Long groupId, Collection<Long> userIds, GroupRole role) {
+        runAfterCommit(() -> {
+            String key = buildKey(groupId);
+            Map<String, String> roles = userIds.stream()
+                    .collect(Collectors.toMap(String::valueOf, userId -> role != null ? role.name() : NONE, (a, b) -> a));
+            redisTemplate.opsForHash().putAll(key, roles);
+            redisTemplate.expire(key, Duration.ofMillis(ROLE_EXP));
+            userIds.forEach(userId -> localRoles.remove(new RoleKey(groupId, userId)));
+        });
+    }
+
+    public void removeGroup(Long groupId) {
+        runAfterCommit(() -> {
+            redisTemplate.delete(buildKey(groupId));
+            localRoles.keySet().removeIf(roleKey -> roleKey.groupId().equals(groupId));
+        });
+    }
+
+    @Scheduled(fixedDelay = 1000 * 60) // 만료된 near-cache 항목 정리
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        localRoles.values().removeIf(localRole -> localRole.expiresAt() <= now);
+    }
+
+    // 조회 중에 역할이 바뀌었으면 updateRole이 쓴 값이 우선하도록 비어 있을 때만 저장
+    private String loadRole(String key, Long groupId, Long userId) {
+        String value = groupUserRepository.findRoleByGroupIdAndUserId(groupId, userId)
+                .map(GroupRole::name)
+                .orElse(NONE);
+
+        redisTemplate.opsForHash().putIfAbsent(key, userId.toString(), value);
+        redisTemplate.expire(key, Duration.ofMillis(ROLE_EXP));
+
+        return value;
+    }
+
+    // 롤백된 변경이 캐시에 남지 않도록 커밋 이후에 반영
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String buildKey(Long groupId) {
+        return "groupRole:" + groupId;
+    }
+
+    private record RoleKey(Long groupId, Long userId) {}
+
+    private record LocalRole(GroupRole role, long expiresAt) {}
+}
@@ -21,6 +21,7 @@ import com.hong.ForPaw.repository.Post.*;
 import com.hong.ForPaw.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -39,25 +40,28 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class GroupService {
 
+    private static final int PARTICIPANT_PREVIEW_SIZE = 5; // 정모 목록에서 보여줄 참가자 프로필 수
+    private static final int MEMBER_PAGE_SIZE = 10;
+
     private final GroupRepository groupRepository;
     private final GroupUserRepository groupUserRepository;
     private final FavoriteGroupRepository favoriteGroupRepository;
     private final MeetingRepository meetingRepository;
     private final MeetingUserRepository meetingUserRepository;
     private final PostRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final PostReadStatusRepository postReadStatusRepository;
-    private final CommentRepository commentRepository;
-    private final CommentLikeRepository commentLikeRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatUserRepository chatUserRepository;
     private final UserRepository userRepository;
     private final RedisService redisService;
     private final EntityManager entityManager;
     private final BrokerService brokerService;
-
-    private static final Province DEFAULT_PROVINCE = Province.DAEGU;
-    private static final District DEFAULT_DISTRICT = District.SUSEONG;
+    private final AlarmOutboxService alarmOutboxService;
+    private final LikeService likeService;
+    private final DashboardStatsService dashboardStatsService;
+    private final PostReadService postReadService;
+    private final GroupRecommendService groupRecommendService;
+    private final GroupPurgeService groupPurgeService;
+    private final GroupRoleCacheService groupRoleCacheService;
 
     @Transactional
     public GroupResponse.CreateGroupDTO createGroup(GroupRequest.CreateGroupDTO requestDTO, Long userId){
@@ -87,6 +91,7 @@ public class GroupService {
                 .build();
 
         groupUserRepository.save(groupUser);
+        groupRoleCacheService.updateRole(group.getId(), userId, GroupRole.CREATOR);
 
         // 그룹 참여자 수 증가 (그룹장 참여)
         groupRepository.incrementParticipantNum(group.getId());
@@ -94,6 +99,9 @@ public class GroupService {
         // 레디스에 좋아요 수 데이터 생성 (그룹의 경우 유효기간이 없고, 그룹이 삭제되기 전까지 남아 있음)
         redisService.storeValue("groupLikeNum", group.getId().toString(), "0");
 
+        // 추천 후보에 등록
+        groupRecommendService.recordGroupCreated(group.getId(), group.getProvince());
+
         // 그룹 채팅방 생성
         ChatRoom chatRoom = ChatRoom.builder()
                 .group(group)
@@ -148,41 +156,10 @@ public class GroupService {
             throw new CustomException(ExceptionCode.GROUP_NAME_EXIST);
         }
 
+        Province oldProvince = group.getProvince();
         group.updateInfo(requestDTO.name(), requestDTO.province(), requestDTO.district(), group.getSubDistrict(), requestDTO.description(), requestDTO.category(), requestDTO.profileURL());
-    }
-
-    @Transactional
-    public GroupResponse.FindAllGroupListDTO findGroupList(Long userId){
-        Province province = DEFAULT_PROVINCE;
-        District district = DEFAULT_DISTRICT;
-
-        // 로그인이 되어 있으면, 가입 시 기재한 주소를 바탕으로 그룹 조회
-        if (userId != null) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new CustomException(ExceptionCode.USER_NOT_FOUND));
-            province = user.getProvince();
-            district = user.getDistrict();
-        }
-
-        // 이 API의 페이지네이션은 0페이지인 5개만 보내줄 것이다.
-        Pageable pageable = createPageable(0, 5, "id");
-
-        // 좋아요 한 그룹
-        List<Long> likedGroupIds = userId != null ? favoriteGroupRepository.findLikedGroupIdsByUserId(userId) : new ArrayList<>();
-
-        // 추천 그룹 찾기
-        List<GroupResponse.RecommendGroupDTO> recommendGroupDTOS = getRecommendGroupDTOS(userId, province, likedGroupIds);
-
-        // 지역 그룹 찾기
-        List<GroupResponse.LocalGroupDTO> localGroupDTOS = getLocalGroupDTOS(userId, province, district, likedGroupIds, pageable);
-
-        // 새 그룹 찾기
-        List<GroupResponse.NewGroupDTO> newGroupDTOS = getNewGroupDTOS(userId, province, pageable);
-
-        // 내 그룹 찾기, 만약 로그인 되어 있지 않다면, 빈 리스트로 처리한다.
-        List<GroupResponse.MyGroupDTO> myGroupDTOS = userId != null ? getMyGroupDTOS(userId, likedGroupIds, pageable) : new ArrayList<>();
 
-        return new GroupResponse.FindAllGroupListDTO(recommendGroupDTOS, newGroupDTOS, localGroupDTOS, myGroupDTOS);
+        groupRecommendService.recordProvinceChanged(groupId, oldProvince, group.getProvince());
     }
 
     // 지역 그룹 추가 조회
@@ -251,8 +228,8 @@ public class GroupService {
         // 공지사항
         List<GroupResponse.NoticeDTO> noticeDTOS = getNoticeDTOS(userId, groupId, pageable);
 
-        // 가입자
-        List<GroupResponse.MemberDTO> memberDTOS = getMemberDTOS(groupId);
+        // 가입자 (첫 페이지만, 나머지는 추가 조회)
+        List<GroupResponse.MemberDTO> memberDTOS = getMemberDTOS(groupId, PageRequest.of(0, MEMBER_PAGE_SIZE));
 
         return new GroupResponse.FindGroupDetailByIdDTO(group.getProfileURL(), group.getName(),group.getDescription(), noticeDTOS, meetingDTOS, memberDTOS);
     }
@@ -272,6 +249,39 @@ public class GroupService {
         return new GroupResponse.FindNoticeListDTO(noticeDTOS);
     }
 
+    // 가입자 추가조회
+    public GroupResponse.FindMemberListDTO findMemberList(Long userId, Long groupId, Integer page){
+        // 그룹 존재 여부 체크
+        checkGroupExist(groupId);
+
+        // 맴버인지 체크
+        checkIsMember(groupId, userId);
+
+        List<GroupResponse.MemberDTO> memberDTOS = getMemberDTOS(groupId, PageRequest.of(page, MEMBER_PAGE_SIZE));
+
+        return new GroupResponse.FindMemberListDTO(memberDTOS);
+    }
+
+    // 가입 신청자 조회 (관리자만 가능)
+    public GroupResponse.FindApplicantListDTO findApplicantList(Long userId, Long groupId, Integer page){
+        // 그룹 존재 여부 체크
+        checkGroupExist(groupId);
+
+        // 권한 체크
+        checkAdminAuthority(groupId, userId);
+
+        List<GroupResponse.ApplicantDTO> applicantDTOS = groupUserRepository.findApplicantsByGroupId(groupId, PageRequest.of(page, MEMBER_PAGE_SIZE)).stream()
+                .map(applicant -> new GroupResponse.ApplicantDTO(
+                        applicant.getId(),
+                        applicant.getNickName(),
+                        applicant.getProfileURL(),
+                        applicant.getGreeting(),
+                        applicant.getCreatedDate()))
+                .toList();
+
+        return new GroupResponse.FindApplicantListDTO(applicantDTOS);
+    }
+
     // 정기모임 추가조회
     @Transactional
     public GroupResponse.FindMeetingListDTO findMeetingList(Long userId, Long groupId, Integer page){
@@ -299,8 +309,8 @@ public class GroupService {
                 () -> new CustomException(ExceptionCode.MEETING_NOT_FOUND)
         );
 
-        List<GroupResponse.ParticipantDTO> participantDTOS = meetingUserRepository.findUsersByMeetingId(meeting.getId()).stream()
-                .map(user -> new GroupResponse.ParticipantDTO(user.getProfileURL()))
+        List<GroupResponse.ParticipantDTO> participantDTOS = meetingUserRepository.findProfileURLsByMeetingId(meeting.getId()).stream()
+                .map(GroupResponse.ParticipantDTO::new)
                 .toList();
 
         return new GroupResponse.MeetingDTO(meeting.getId(), meeting.getName(), meeting.getDate(), meeting.getLocation(), meeting.getCost(), meeting.getParticipantNum(), meeting.getMaxNum(), meeting.getProfileURL(), meeting.getDescription(), participantDTOS);
@@ -312,11 +322,9 @@ public class GroupService {
         checkGroupExist(groupId);
 
         // 이미 가입했거나 신청한 회원이면 에러 처리
-        groupUserRepository.findByGroupIdAndUserId(groupId, userId)
-                .filter(groupUser -> groupUser.getGroupRole().equals(GroupRole.USER) || groupUser.getGroupRole().equals(GroupRole.ADMIN) || groupUser.getGroupRole().equals(GroupRole.CREATOR) || groupUser.getGroupRole().equals(GroupRole.TEMP))
-                .ifPresent(groupUser -> {
-                    throw new CustomException(ExceptionCode.GROUP_ALREADY_JOIN);
-                });
+        if(groupRoleCacheService.getRole(groupId, userId) != null){
+            throw new CustomException(ExceptionCode.GROUP_ALREADY_JOIN);
+        }
 
         Group groupRef = entityManager.getReference(Group.class, groupId);
         User userRef = entityManager.getReference(User.class, userId);
@@ -329,6 +337,7 @@ public class GroupService {
                 .build();
 
         groupUserRepository.save(groupUser);
+        groupRoleCacheService.updateRole(groupId, userId, GroupRole.TEMP);
     }
 
     @Transactional
@@ -337,16 +346,14 @@ public class GroupService {
         checkGroupExist(groupId);
 
         // 가입한 회원이 아니면 에러
-        groupUserRepository.findByGroupIdAndUserId(groupId, userId)
-                .filter(groupUser -> groupUser.getGroupRole().equals(GroupRole.USER) || groupUser.getGroupRole().equals(GroupRole.ADMIN) || groupUser.getGroupRole().equals(GroupRole.CREATOR))
-                .orElseThrow(
-                        () -> new CustomException(ExceptionCode.GROUP_NOT_MEMBER)
-                );
+        checkIsMember(groupId, userId);
 
         groupUserRepository.deleteByGroupIdAndUserId(groupId, userId);
+        groupRoleCacheService.updateRole(groupId, userId, null);
 
         // 그룹 참가자 수 감소
         groupRepository.decrementParticipantNum(groupId);
+        groupRecommendService.recordWithdraw(groupId);
 
         // 그룹 채팅방에서 탈퇴
         ChatRoom chatRoom = chatRoomRepository.findByGroupId(groupId);
@@ -368,9 +375,11 @@ public class GroupService {
         checkAlreadyApplyOrMember(groupApplicantOP);
 
         groupApplicantOP.get().updateRole(GroupRole.USER);
+        groupRoleCacheService.updateRole(groupId, applicantId, GroupRole.USER);
 
         // 그룹 참가자 수 증가
         groupRepository.incrementParticipantNum(groupId);
+        groupRecommendService.recordJoin(groupId);
 
         // 알람 생성
         User applicant = entityManager.getReference(User.class, applicantId);
@@ -385,7 +394,7 @@ public class GroupService {
                 date,
                 AlarmType.join);
 
-        brokerService.produceAlarm(applicantId, alarmDTO);
+        alarmOutboxService.enqueueAlarm(applicantId, alarmDTO);
 
         // 그룹 채팅방에 참여
         ChatRoom chatRoom = chatRoomRepository.findByGroupId(groupId);
@@ -398,6 +407,54 @@ public class GroupService {
         chatUserRepository.save(chatUser);
     }
 
+    // 여러 신청자를 한 번에 승인, 권한 체크/역할 변경/참가자 수 증가/알람 저장/채팅방 참여를 각각 한 번씩만 처리
+    @Transactional
+    public GroupResponse.ApproveJoinBulkDTO approveJoinBulk(Long userId, List<Long> applicantIds, Long groupId){
+        // 존재하지 않는 그룹이면 에러
+        checkGroupExist(groupId);
+
+        // 권한 체크
+        checkAdminAuthority(groupId, userId);
+
+        // 신청 상태인 유저만 승인 (이미 가입했거나 신청하지 않은 id는 건너뜀)
+        List<Long> approvedIds = groupUserRepository.findApplicantIdsByGroupIdAndUserIds(groupId, new HashSet<>(applicantIds));
+        if(approvedIds.isEmpty()){
+            throw new CustomException(ExceptionCode.GROUP_NOT_APPLY);
+        }
+
+        // 조회 후 다른 요청에서 먼저 승인/거절했다면 수가 달라지므로 전체를 롤백
+        if(groupUserRepository.approveApplicants(groupId, approvedIds) != approvedIds.size()){
+            throw new CustomException(ExceptionCode.GROUP_ALREADY_JOIN);
+        }
+        groupRoleCacheService.updateRoles(groupId, approvedIds, GroupRole.USER);
+
+        // 그룹 참가자 수 증가
+        groupRepository.incrementParticipantNumBy(groupId, (long) approvedIds.size());
+        groupRecommendService.recordJoins(groupId, approvedIds.size());
+
+        // 알람 생성
+        String content = "가입이 승인 되었습니다!";
+        String redirectURL = "groups/" + groupId + "/detail";
+        LocalDateTime date = LocalDateTime.now();
+
+        List<AlarmRequest.AlarmDTO> alarmDTOS = approvedIds.stream()
+                .map(applicantId -> new AlarmRequest.AlarmDTO(
+                        applicantId,
+                        content,
+                        redirectURL,
+                        date,
+                        AlarmType.join))
+                .toList();
+
+        alarmOutboxService.enqueueAlarms(alarmDTOS);
+
+        // 그룹 채팅방에 참여 (승인된 인원을 하나의 INSERT 문으로 저장)
+        ChatRoom chatRoom = chatRoomRepository.findByGroupId(groupId);
+        chatUserRepository.insertAll(chatRoom.getId(), approvedIds);
+
+        return new GroupResponse.ApproveJoinBulkDTO(approvedIds);
+    }
+
     @Transactional
     public void rejectJoin(Long userId, Long applicantId, Long groupId){
         // 존재하지 않는 그룹이면 에러
@@ -411,6 +468,7 @@ public class GroupService {
         checkAlreadyApplyOrMember(groupUserOP);
 
         groupUserRepository.delete(groupUserOP.get());
+        groupRoleCacheService.updateRole(groupId, applicantId, null);
 
         // 알람 생성
         String content = "가입이 거절 되었습니다.";
@@ -424,7 +482,7 @@ public class GroupService {
                 date,
                 AlarmType.join);
 
-        brokerService.produceAlarm(applicantId, alarmDTO);
+        alarmOutboxService.enqueueAlarm(applicantId, alarmDTO);
     }
 
     @Transactional
@@ -447,24 +505,26 @@ public class GroupService {
                 .build();
 
         postRepository.save(notice);
+        dashboardStatsService.recordPostCreated();
+        groupRecommendService.recordActivity(groupId);
 
         // 알람 생성
         List<User> users = groupUserRepository.findAllUsersByGroupIdWithoutMe(groupId, userId);
 
-        for(User user : users){
-            String content = "공지: " + requestDTO.title();
-            String redirectURL = "posts/" + notice.getId() + "/entire";
-            LocalDateTime date = LocalDateTime.now();
+        String content = "공지: " + requestDTO.title();
+        String redirectURL = "posts/" + notice.getId() + "/entire";
+        LocalDateTime date = LocalDateTime.now();
 
-            AlarmRequest.AlarmDTO alarmDTO = new AlarmRequest.AlarmDTO(
-                    user.getId(),
-                    content,
-                    redirectURL,
-                    date,
-                    AlarmType.notice);
+        List<AlarmRequest.AlarmDTO> alarmDTOS = users.stream()
+                .map(user -> new AlarmRequest.AlarmDTO(
+                        user.getId(),
+                        content,
+                        redirectURL,
+                        date,
+                        AlarmType.notice))
+                .toList();
 
-            brokerService.produceAlarm(user.getId(), alarmDTO);
-        }
+        alarmOutboxService.enqueueAlarms(alarmDTOS);
 
         return new GroupResponse.CreateNoticeDTO(notice.getId());
     }
@@ -474,25 +534,9 @@ public class GroupService {
         // 존재하지 않는 그룹이면 에러
         checkGroupExist(groupId);
 
-        Optional<FavoriteGroup> favoriteGroupOP = favoriteGroupRepository.findByUserIdAndGroupId(userId, groupId);
-
-        // 좋아요가 이미 있다면 삭제, 없다면 추가
-        if (favoriteGroupOP.isPresent()) {
-            favoriteGroupRepository.delete(favoriteGroupOP.get());
-            redisService.decrementCnt("groupLikeNum", groupId.toString(), 1L);
-        }
-        else {
-            Group groupRef = entityManager.getReference(Group.class, groupId);
-            User userRef = entityManager.getReference(User.class, userId);
-
-            FavoriteGroup favoriteGroup = FavoriteGroup.builder()
-                    .user(userRef)
-                    .group(groupRef)
-                    .build();
-
-            favoriteGroupRepository.save(favoriteGroup);
-            redisService.incrementCnt("groupLikeNum", groupId.toString(), 1L);
-        }
+        // 좋아요가 이미 있다면 삭제, 없다면 추가 (Redis에서 원자적으로 처리, DB 반영은 비동기)
+        boolean liked = likeService.toggleLike(LikeService.LikeTarget.GROUP, groupId, userId);
+        groupRecommendService.recordLike(groupId, liked);
     }
 
     @Scheduled(cron = "0 15 0 * * *")
@@ -512,35 +556,21 @@ public class GroupService {
     @Transactional
     public void deleteGroup(Long groupId, Long userId){
         // 존재하지 않는 그룹이면 에러
-        checkGroupExist(groupId);
+        Group group = groupRepository.findById(groupId).orElseThrow(
+                () -> new CustomException(ExceptionCode.GROUP_NOT_FOUND)
+        );
 
         // 권한체크 (그룹장만 삭제 가능)
         checkCreatorAuthority(groupId, userId);
 
-        // 그룹, 미팅 연관 데이터 삭제
-        meetingUserRepository.deleteAllByGroupId(groupId);
-        meetingRepository.deleteAllByGroupId(groupId);
-        favoriteGroupRepository.deleteAllByGroupId(groupId);
-        groupUserRepository.deleteAllByGroupId(groupId);
-
-        // 그룹과 관련된 게시글, 댓글 관련 데이터 삭제
-        postLikeRepository.deleteAllByGroupId(groupId);
-        postReadStatusRepository.deleteAllByGroupId(groupId);
-        commentLikeRepository.deleteAllByGroupId(groupId);
-        commentRepository.deleteAllByGroupId(groupId);
-        postRepository.deleteAllByGroupId(groupId);
+        // 삭제 중으로 표시하면 조회되지 않고, 연관 데이터는 백그라운드에서 나눠서 정리한다
+        group.markDeleting();
+        groupPurgeService.requestPurge(groupId);
+        groupRoleCacheService.removeGroup(groupId);
 
         // 레디스에 저장된 좋아요 수 삭제
         redisService.removeData("groupLikeNum", groupId.toString());
-
-        // 그룹 채팅방 삭제
-        ChatRoom chatRoom = chatRoomRepository.findByGroupId(groupId);
-        String queueName = "room." + chatRoom.getId();
-        chatUserRepository.deleteAllByGroupId(groupId);
-        chatRoomRepository.delete(chatRoom);
-        brokerService.deleteQueue(queueName); // 채팅방 큐 삭제
-
-        groupRepository.deleteById(groupId);
+        groupRecommendService.recordGroupDeleted(groupId);
     }
 
     @Transactional
@@ -549,7 +579,7 @@ public class GroupService {
         checkGroupExist(groupId);
 
         // 가입되지 않은 회원이면 에러
-        if(!groupUserRepository.existsByGroupIdAndUserId(groupId, requestDTO.id())){
+        if(groupRoleCacheService.getRole(groupId, requestDTO.id()) == null){
             throw new CustomException(ExceptionCode.GROUP_NOT_MEMBER);
         }
 
@@ -567,6 +597,7 @@ public class GroupService {
         }
 
         groupUserRepository.updateRole(requestDTO.role(), groupId, requestDTO.id());
+        groupRoleCacheService.updateRole(groupId, requestDTO.id(), requestDTO.role());
     }
 
     @Transactional
@@ -603,24 +634,25 @@ public class GroupService {
 
         // 미팅 참여자 수 증가 (미팅 생성자 참여)
         meetingRepository.incrementParticipantNum(meeting.getId());
+        groupRecommendService.recordActivity(groupId);
 
         // 알람 생성
         List<User> users = groupUserRepository.findAllUsersByGroupIdWithoutMe(groupId, userId);
 
-        for(User user : users){
-            String content = "새로운 정기 모임: " + requestDTO.name();
-            String redirectURL = "groups/" + groupId + "/meetings/"+meeting.getId();
-            LocalDateTime date = LocalDateTime.now();
+        String content = "새로운 정기 모임: " + requestDTO.name();
+        String redirectURL = "groups/" + groupId + "/meetings/"+meeting.getId();
+        LocalDateTime date = LocalDateTime.now();
 
-            AlarmRequest.AlarmDTO alarmDTO = new AlarmRequest.AlarmDTO(
-                    user.getId(),
-                    content,
-                    redirectURL,
-                    date,
-                    AlarmType.newMeeting);
+        List<AlarmRequest.AlarmDTO> alarmDTOS = users.stream()
+                .map(user -> new AlarmRequest.AlarmDTO(
+                        user.getId(),
+                        content,
+                        redirectURL,
+                        date,
+                        AlarmType.newMeeting))
+                .toList();
 
-            brokerService.produceAlarm(user.getId(), alarmDTO);
-        }
+        alarmOutboxService.enqueueAlarms(alarmDTOS);
         
         return new GroupResponse.CreateMeetingDTO(meeting.getId());
     }
@@ -642,33 +674,36 @@ public class GroupService {
 
     @Transactional
     public void joinMeeting(Long groupId, Long meetingId, Long userId){
-        // 존재하지 않는 모임이면 에러 처리
-        Meeting meeting = meetingRepository.findById(meetingId).orElseThrow(
-                () -> new CustomException(ExceptionCode.MEETING_NOT_FOUND)
-        );
-
         // 그룹의 맴버가 아니면 에러 처리
         checkIsMember(groupId, userId);
 
-        // 이미 참가중인 모임이면 에러 처리
+        // 기본 프로필은 나중에 주소를 설정해야 함
+        String profileURL = userRepository.findProfileById(userId).orElse("www.s3.basicProfile");
+
+        // 정원이 남아 있을 때만 참가자 수를 올려서 자리를 확보 (조건부 UPDATE라 동시에 요청이 몰려도 정원을 넘지 않음)
+        // 모임 행의 락은 여기서부터 커밋까지만 잡히므로, 조회는 모두 위에서 끝낸다
+        if(meetingRepository.reserveSeat(meetingId) == 0){
+            checkMeetingExist(meetingId);
+            throw new CustomException(ExceptionCode.MEETING_FULL);
+        }
+
+        // REPEATABLE READ에서는 위의 락을 기다린 뒤에도 먼저 커밋된 참가 기록이 보이지 않을 수 있으므로,
+        // 이 확인은 빠른 실패용이고 중복은 (meeting_id, user_id) 유니크 제약으로 막는다 (에러 시 롤백되어 자리도 반환됨)
         if(meetingUserRepository.existsByMeetingIdAndUserId(meetingId, userId)){
             throw new CustomException(ExceptionCode.MEETING_ALREADY_JOIN);
         }
 
-        // 기본 프로필은 나중에 주소를 설정해야 함
-        User userRef = entityManager.getReference(User.class, userId);
-        String profileURL = userRepository.findProfileById(userId).orElse("www.s3.basicProfile");
         MeetingUser meetingUser = MeetingUser.builder()
-                .user(userRef)
+                .user(entityManager.getReference(User.class, userId))
                 .profileURL(profileURL)
                 .build();
+        meetingUser.updateMeeting(entityManager.getReference(Meeting.class, meetingId));
 
-        // 양방향 관계 설정 후 meeting 저장
-        meeting.addMeetingUser(meetingUser);
-        meetingUserRepository.save(meetingUser);
-
-        // 미팅 참가자 수 증가
-        meetingRepository.incrementParticipantNum(meetingId);
+        try {
+            meetingUserRepository.saveAndFlush(meetingUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(ExceptionCode.MEETING_ALREADY_JOIN);
+        }
     }
 
     @Transactional
@@ -702,44 +737,6 @@ public class GroupService {
         meetingRepository.deleteById(meetingId);
     }
 
-    private List<GroupResponse.RecommendGroupDTO> getRecommendGroupDTOS(Long userId, Province province, List<Long> likedGroupIds){
-        // 만약 로그인 되어 있지 않다면, 빈 셋으로 처리한다.
-        Set<Long> joinedGroupIds = userId != null ? getGroupIds(userId) : Collections.emptySet();
-
-        // 1. 같은 지역의 그룹  2. 좋아요, 사용자 순
-        Sort sort = Sort.by(Sort.Order.desc("likeNum"), Sort.Order.desc("participantNum"));
-        Pageable pageable = PageRequest.of(0, 30, sort);
-
-        Page<Group> recommendGroups = groupRepository.findByProvince(province, pageable);
-
-        List<GroupResponse.RecommendGroupDTO> allRecommendGroupDTOS = recommendGroups.getContent().stream()
-                .filter(group -> !joinedGroupIds.contains(group.getId())) // 내가 가입한 그룹을 제외
-                .map(group -> {
-                    Long likeNum = redisService.getDataInLong("groupLikeNum", group.getId().toString());
-
-                    return new GroupResponse.RecommendGroupDTO(
-                            group.getId(),
-                            group.getName(),
-                            group.getDescription(),
-                            group.getParticipantNum(),
-                            group.getCategory(),
-                            group.getProvince(),
-                            group.getDistrict(),
-                            group.getProfileURL(),
-                            likeNum,
-                            likedGroupIds.contains(group.getId()));
-                })
-                .collect(Collectors.toList());
-
-        // 매번 동일하게 추천을 할 수는 없으니, 간추린 추천 목록 중에서 5개를 랜덤으로 보내준다.
-        Collections.shuffle(allRecommendGroupDTOS);
-        List<GroupResponse.RecommendGroupDTO> recommendGroupDTOS = allRecommendGroupDTOS.stream()
-                .limit(5)
-                .collect(Collectors.toList());
-
-        return recommendGroupDTOS;
-    }
-
     private List<GroupResponse.LocalGroupDTO> getLocalGroupDTOS(Long userId, Province province, District district, List<Long> likedGroupIds, Pageable pageable){
         // 만약 로그인 되어 있지 않다면, 빈 셋으로 처리한다.
         Set<Long> joinedGroupIds = userId != null ? getGroupIds(userId) : Collections.emptySet();
@@ -813,36 +810,34 @@ public class GroupService {
     }
 
     private Set<Long> getGroupIds(Long userId){
-        List<Group> groups = groupUserRepository.findAllGroupByUserId(userId);
-
-        Set<Long> groupIds = groups.stream()
-                .map(Group::getId)
-                .collect(Collectors.toSet());
-
-        return groupIds;
+        // 엔티티 대신 id만 조회
+        return new HashSet<>(groupUserRepository.findGroupIdsByUserId(userId));
     }
 
     private Pageable createPageable(int page, int size, String sortProperty) {
         return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortProperty));
     }
 
+    // 권한 체크는 역할 캐시로 처리 (GroupUser 엔티티를 불러오지 않음)
     public void checkIsMember(Long groupId, Long userId){
-        groupUserRepository.findByGroupIdAndUserId(groupId, userId)
-                .filter(groupUser -> groupUser.getGroupRole().equals(GroupRole.USER) || groupUser.getGroupRole().equals(GroupRole.ADMIN) || groupUser.getGroupRole().equals(GroupRole.CREATOR))
-                .orElseThrow( () -> new CustomException(ExceptionCode.GROUP_NOT_MEMBER));
+        GroupRole role = groupRoleCacheService.getRole(groupId, userId);
+        if(!(role == GroupRole.USER || role == GroupRole.ADMIN || role == GroupRole.CREATOR)){
+            throw new CustomException(ExceptionCode.GROUP_NOT_MEMBER);
+        }
     }
 
     private void checkAdminAuthority(Long groupId, Long userId){
-        // 권한 체크, 엔티티 사이즈가 크지 않으니 그냥 불러오자
-        groupUserRepository.findByGroupIdAndUserId(groupId, userId)
-                .filter(groupUser -> groupUser.getGroupRole().equals(GroupRole.ADMIN) || groupUser.getGroupRole().equals(GroupRole.CREATOR)) // ADMIN인 경우에만 통과 (ADMIN이 아니면 null이 되어 orElseThrow 실행)
-                .orElseThrow(() -> new CustomException(ExceptionCode.USER_FORBIDDEN)); // ADMIN이 아니거나 그룹과 관련없는 사람이면 에러 보냄
+        // ADMIN이 아니거나 그룹과 관련없는 사람이면 에러 보냄
+        GroupRole role = groupRoleCacheService.getRole(groupId, userId);
+        if(!(role == GroupRole.ADMIN || role == GroupRole.CREATOR)){
+            throw new CustomException(ExceptionCode.USER_FORBIDDEN);
+        }
     }
 
     private void checkCreatorAuthority(Long groupId, Long userId){
-        groupUserRepository.findByGroupIdAndUserId(groupId, userId)
-                .filter(groupUser -> groupUser.getGroupRole().equals(GroupRole.CREATOR))
-                .orElseThrow(() -> new CustomException(ExceptionCode.USER_FORBIDDEN));
+        if(groupRoleCacheService.getRole(groupId, userId) != GroupRole.CREATOR){
+            throw new CustomException(ExceptionCode.USER_FORBIDDEN);
+        }
     }
 
     private void checkAlreadyApplyOrMember(Optional<GroupUser> groupApplicantOP){
@@ -870,8 +865,11 @@ public class GroupService {
     private List<GroupResponse.NoticeDTO> getNoticeDTOS(Long userId, Long groupId, Pageable pageable){
         // user를 패치조인 해서 조회
         Page<Post> notices = postRepository.findByGroupId(groupId, pageable);
-        // 해당 유저가 읽은 post의 id 목록
-        List<Long> postIds = postRepository.findAllPostIdByUserId(userId);
+        // 현재 페이지의 공지사항 중 해당 유저가 읽은 글의 id 목록
+        List<Long> noticeIds = notices.getContent().stream()
+                .map(Post::getId)
+                .toList();
+        Set<Long> readPostIds = postReadService.findReadPostIds(userId, noticeIds);
 
         List<GroupResponse.NoticeDTO> noticeDTOS = notices.getContent().stream()
                 .map(notice -> new GroupResponse.NoticeDTO(
@@ -879,7 +877,7 @@ public class GroupService {
                             notice.getUser().getNickName(),
                             notice.getCreatedDate(),
                             notice.getTitle(),
-                            postIds.contains(notice.getId())))
+                            readPostIds.contains(notice.getId())))
                 .collect(Collectors.toList());
 
         return noticeDTOS;
@@ -888,11 +886,19 @@ public class GroupService {
     private List<GroupResponse.MeetingDTO> getMeetingDTOS(Long groupId, Pageable pageable){
         Page<Meeting> meetings = meetingRepository.findByGroupId(groupId, pageable);
 
+        // 페이지의 정모 id로 참가자 프로필을 한 번에 조회 (정모당 최대 PARTICIPANT_PREVIEW_SIZE개)
+        List<Long> meetingIds = meetings.getContent().stream()
+                .map(Meeting::getId)
+                .toList();
+
+        Map<Long, List<GroupResponse.ParticipantDTO>> participantsMap = meetingIds.isEmpty() ? Collections.emptyMap() :
+                meetingUserRepository.findParticipantsByMeetingIds(meetingIds, PARTICIPANT_PREVIEW_SIZE).stream()
+                        .collect(Collectors.groupingBy(MeetingUserRepository.ParticipantProjection::getMeetingId,
+                                Collectors.mapping(participant -> new GroupResponse.ParticipantDTO(participant.getProfileURL()), Collectors.toList())));
+
         List<GroupResponse.MeetingDTO> meetingDTOS = meetings.getContent().stream()
                 .map(meeting -> {
-                    List<GroupResponse.ParticipantDTO> participantDTOS = meeting.getMeetingUsers().stream()
-                            .map(meetingUser -> new GroupResponse.ParticipantDTO(meetingUser.getProfileURL()))
-                            .toList();
+                    List<GroupResponse.ParticipantDTO> participantDTOS = participantsMap.getOrDefault(meeting.getId(), Collections.emptyList());
 
                     return new GroupResponse.MeetingDTO(
                             meeting.getId(),
@@ -911,17 +917,14 @@ public class GroupService {
         return meetingDTOS;
     }
 
-    private List<GroupResponse.MemberDTO> getMemberDTOS(Long groupId){
-        // user를 패치조인 해서 조회
-        List<GroupUser> groupUsers = groupUserRepository.findByGroupIdWithUser(groupId);
-
-        List<GroupResponse.MemberDTO> memberDTOS = groupUsers.stream()
-                .filter(groupUser -> !groupUser.getGroupRole().equals(GroupRole.TEMP)) // 가입 승인 상태가 아니면 제외
-                .map(groupUser -> new GroupResponse.MemberDTO(
-                        groupUser.getUser().getId(),
-                        groupUser.getUser().getNickName(),
-                        groupUser.getGroupRole(),
-                        groupUser.getUser().getProfileURL()))
+    private List<GroupResponse.MemberDTO> getMemberDTOS(Long groupId, Pageable pageable){
+        // 가입 승인 상태가 아닌 신청자는 쿼리에서 제외
+        List<GroupResponse.MemberDTO> memberDTOS = groupUserRepository.findMembersByGroupId(groupId, pageable).stream()
+                .map(member -> new GroupResponse.MemberDTO(
+                        member.getId(),
+                        member.getNickName(),
+                        member.getGroupRole(),
+                        member.getProfileURL()))
                 .collect(Collectors.toList());
 
         return memberDTOS;
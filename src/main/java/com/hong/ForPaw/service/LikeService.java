@@ -0,0 +1,303 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.core.errors.CustomException;
+import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.domain.Animal.Animal;
+import com.hong.ForPaw.domain.Animal.FavoriteAnimal;
+import com.hong.ForPaw.domain.Group.FavoriteGroup;
+import com.hong.ForPaw.domain.Group.Group;
+import com.hong.ForPaw.domain.Post.Comment;
+import com.hong.ForPaw.domain.Post.CommentLike;
+import com.hong.ForPaw.domain.Post.Post;
+import com.hong.ForPaw.domain.Post.PostLike;
+import com.hong.ForPaw.domain.User.User;
+import com.hong.ForPaw.repository.Animal.AnimalRepository;
+import com.hong.ForPaw.repository.Animal.FavoriteAnimalRepository;
+import com.hong.ForPaw.repository.Group.FavoriteGroupRepository;
+import com.hong.ForPaw.repository.Group.GroupRepository;
+import com.hong.ForPaw.repository.Post.CommentLikeRepository;
+import com.hong.ForPaw.repository.Post.CommentRepository;
+import com.hong.ForPaw.repository.Post.PostLikeRepository;
+import com.hong.ForPaw.repository.Post.PostRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 글, 댓글, 동물, 그룹의 좋아요를 한 곳에서 처리
+// 좋아요한 유저 목록은 대상별 Redis 집합에 두고, Lua 스크립트 한 번으로 집합과 좋아요 수를 함께 뒤집는다 (연타해도 중복/오차 없음)
+// DB에는 마지막 상태만 모아서 주기적으로 반영. 대상마다 트랜잭션을 나누고, 실패하면 다시 대기 목록에 넣어 재시도
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LikeService {
+
+    public static final Long LIKERS_EXP = 1000L * 60 * 60 * 24 * 7; // 7일 (만료되면 DB에서 다시 채움)
+    private static final String WARMED_MARKER = "-"; // 좋아요가 0개여도 집합이 존재하도록 넣어두는 값
+
+    // KEYS[1] = 좋아요한 유저 집합, KEYS[2] = 좋아요 수
+    // ARGV = userId, 좋아요 수 키가 반드시 있어야 하는지 여부, 집합 유효 기간
+    // 반환: 1 = 좋아요, 0 = 취소, -1 = 좋아요 가능 기간이 지남
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[2] == '1' and redis.call('EXISTS', KEYS[2]) == 0 then return -1 end
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                redis.call('SREM', KEYS[1], ARGV[1])
+                redis.call('DECR', KEYS[2])
+                return 0
+            end
+            redis.call('SADD', KEYS[1], ARGV[1])
+            redis.call('INCR', KEYS[2])
+            return 1
+            """, Long.class);
+
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final FavoriteAnimalRepository favoriteAnimalRepository;
+    private final FavoriteGroupRepository favoriteGroupRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final AnimalRepository animalRepository;
+    private final GroupRepository groupRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    // (대상 종류, 대상 id) => (userId => 아직 DB에 반영되지 않은 마지막 상태, true = 좋아요, false = 취소)
+    // 대상별 Map은 compute/remove/merge로만 접근해서, 꺼내는 도중에 들어온 변경이 유실되지 않는다
+    private final Map<LikeKey, Map<Long, Boolean>> pendingLikes = new ConcurrentHashMap<>();
+
+    // 좋아요 상태를 뒤집고, 좋아요가 된 상태면 true 반환
+    public boolean toggleLike(LikeTarget target, Long targetId, Long userId) {
+        String likersKey = target.getLikersKey(targetId);
+        String counterKey = target.getCounterKey(targetId);
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(likersKey))) {
+            warmLikers(target, targetId, likersKey, counterKey);
+        }
+
+        Long result = redisTemplate.execute(TOGGLE_SCRIPT, List.of(likersKey, counterKey),
+                userId.toString(),
+                target.isExpirable() ? "1" : "0",
+                String.valueOf(LIKERS_EXP));
+
+        if (result == null || result < 0) {
+            throw new CustomException(ExceptionCode.POST_LIKE_EXPIRED);
+        }
+
+        boolean liked = result == 1L;
+        pendingLikes.compute(new LikeKey(target, targetId), (key, changes) -> {
+            Map<Long, Boolean> pending = changes == null ? new HashMap<>() : changes;
+            pending.put(userId, liked);
+            return pending;
+        });
+
+        return liked;
+    }
+
+    // 대상마다 별도 트랜잭션으로 저장하므로, 메서드 자체는 트랜잭션 없이 실행 (클래스의 readOnly 트랜잭션에 합류하지 않도록)
+    @Scheduled(fixedDelay = 5000) // 5초마다 DB에 반영
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushLikes() {
+        for (LikeKey key : new ArrayList<>(pendingLikes.keySet())) {
+            Map<Long, Boolean> changes = pendingLikes.remove(key);
+
+            if (changes == null || changes.isEmpty()) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveChanges(key, changes));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("좋아요 저장 실패 {} {}: {}", key.target(), key.targetId(), e.getMessage());
+                requeue(key, changes);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLikes();
+    }
+
+    // 목록의 좋아요 수를 MGET 한 번으로 조회하고, 캐싱 기간이 지나 값이 없으면 DB에 저장된 값을 사용 (id => 좋아요 수)
+    public <T> Map<Long, Long> findLikeNums(LikeTarget target, List<T> items, Function<T, Long> idMapper, Function<T, Long> storedLikeNumMapper) {
+        Map<Long, Long> likeNums = new HashMap<>();
+        if (items.isEmpty()) {
+            return likeNums;
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(items.stream()
+                .map(item -> target.getCounterKey(idMapper.apply(item)))
+                .toList());
+
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            String value = values != null ? values.get(i) : null;
+            likeNums.put(idMapper.apply(item), value != null ? Long.valueOf(value) : storedLikeNumMapper.apply(item));
+        }
+
+        return likeNums;
+    }
+
+    // 집합이 없으면(처음이거나 만료) DB 기준으로 채운다. 만료형 대상은 좋아요 수 키를 만들지 않는다 (기간 만료 판단에 사용)
+    private void warmLikers(LikeTarget target, Long targetId, String likersKey, String counterKey) {
+        List<String> likerIds = new ArrayList<>(findLikerIds(target, targetId).stream().map(String::valueOf).toList());
+        int likeNum = likerIds.size();
+        likerIds.add(WARMED_MARKER);
+
+        redisTemplate.opsForSet().add(likersKey, likerIds.toArray(new String[0]));
+        redisTemplate.expire(likersKey, Duration.ofMillis(LIKERS_EXP));
+
+        if (!target.isExpirable()) {
+            redisTemplate.opsForValue().setIfAbsent(counterKey, String.valueOf(likeNum));
+        }
+    }
+
+    // 삭제된 대상의 변경은 버린다 (삭제 때 지운 좋아요가 다시 저장되거나, 외래키 오류로 계속 재시도되지 않도록)
+    private void saveChanges(LikeKey key, Map<Long, Boolean> changes) {
+        if (!existsTarget(key.target(), key.targetId())) {
+            return;
+        }
+
+        Set<Long> likedUserIds = new HashSet<>();
+        Set<Long> unlikedUserIds = new HashSet<>();
+        changes.forEach((userId, liked) -> (liked ? likedUserIds : unlikedUserIds).add(userId));
+
+        if (!unlikedUserIds.isEmpty()) {
+            deleteLikes(key.target(), key.targetId(), unlikedUserIds);
+        }
+
+        if (!likedUserIds.isEmpty()) {
+            saveLikes(key.target(), key.targetId(), likedUserIds);
+        }
+
+        // 글의 likeNum 컬럼도 함께 맞춰서, 좋아요 순 정렬(답변 목록 등)이 하루 한 번 동기화를 기다리지 않도록
+        if (key.target() == LikeTarget.POST) {
+            String likeNum = redisTemplate.opsForValue().get(key.target().getCounterKey(key.targetId()));
+            if (likeNum != null) {
+                postRepository.updateLikeNum(Long.valueOf(likeNum), key.targetId());
+            }
+        }
+    }
+
+    // 저장하는 동안 새로 들어온 상태가 있으면 그것이 최신이므로 유지
+    private void requeue(LikeKey key, Map<Long, Boolean> changes) {
+        pendingLikes.merge(key, changes, (pending, failed) -> {
+            failed.forEach(pending::putIfAbsent);
+            return pending;
+        });
+    }
+
+    private boolean existsTarget(LikeTarget target, Long targetId) {
+        return switch (target) {
+            case POST -> postRepository.existsById(targetId);
+            case COMMENT -> commentRepository.existsById(targetId);
+            case ANIMAL -> animalRepository.existsById(targetId);
+            case GROUP -> groupRepository.existsById(targetId);
+        };
+    }
+
+    private List<Long> findLikerIds(LikeTarget target, Long targetId) {
+        return switch (target) {
+            case POST -> postLikeRepository.findUserIdsByPostId(targetId);
+            case COMMENT -> commentLikeRepository.findUserIdsByCommentId(targetId);
+            case ANIMAL -> favoriteAnimalRepository.findUserIdsByAnimalId(targetId);
+            case GROUP -> favoriteGroupRepository.findUserIdsByGroupId(targetId);
+        };
+    }
+
+    private void deleteLikes(LikeTarget target, Long targetId, Set<Long> userIds) {
+        switch (target) {
+            case POST -> postLikeRepository.deleteByPostIdAndUserIds(targetId, userIds);
+            case COMMENT -> commentLikeRepository.deleteByCommentIdAndUserIds(targetId, userIds);
+            case ANIMAL -> favoriteAnimalRepository.deleteByAnimalIdAndUserIds(targetId, userIds);
+            case GROUP -> favoriteGroupRepository.deleteByGroupIdAndUserIds(targetId, userIds);
+        }
+    }
+
+    // 이미 저장된 유저는 제외하고 저장 (유니크 제약 위반 방지)
+    private void saveLikes(LikeTarget target, Long targetId, Set<Long> userIds) {
+        switch (target) {
+            case POST -> {
+                Set<Long> stored = new HashSet<>(postLikeRepository.findUserIdsByPostIdAndUserIds(targetId, userIds));
+                Post postRef = entityManager.getReference(Post.class, targetId);
+                postLikeRepository.saveAll(filterNew(userIds, stored).stream()
+                        .map(userId -> PostLike.builder().user(getUserRef(userId)).post(postRef).build())
+                        .collect(Collectors.toList()));
+            }
+            case COMMENT -> {
+                Set<Long> stored = new HashSet<>(commentLikeRepository.findUserIdsByCommentIdAndUserIds(targetId, userIds));
+                Comment commentRef = entityManager.getReference(Comment.class, targetId);
+                commentLikeRepository.saveAll(filterNew(userIds, stored).stream()
+                        .map(userId -> CommentLike.builder().user(getUserRef(userId)).comment(commentRef).build())
+                        .collect(Collectors.toList()));
+            }
+            case ANIMAL -> {
+                Set<Long> stored = new HashSet<>(favoriteAnimalRepository.findUserIdsByAnimalIdAndUserIds(targetId, userIds));
+                Animal animalRef = entityManager.getReference(Animal.class, targetId);
+                favoriteAnimalRepository.saveAll(filterNew(userIds, stored).stream()
+                        .map(userId -> FavoriteAnimal.builder().user(getUserRef(userId)).animal(animalRef).build())
+                        .collect(Collectors.toList()));
+            }
+            case GROUP -> {
+                Set<Long> stored = new HashSet<>(favoriteGroupRepository.findUserIdsByGroupIdAndUserIds(targetId, userIds));
+                Group groupRef = entityManager.getReference(Group.class, targetId);
+                favoriteGroupRepository.saveAll(filterNew(userIds, stored).stream()
+                        .map(userId -> FavoriteGroup.builder().user(getUserRef(userId)).group(groupRef).build())
+                        .collect(Collectors.toList()));
+            }
+        }
+    }
+
+    private List<Long> filterNew(Set<Long> userIds, Set<Long> stored) {
+        return userIds.stream()
+                .filter(userId -> !stored.contains(userId))
+                .toList();
+    }
+
+    private User getUserRef(Long userId) {
+        return entityManager.getReference(User.class, userId);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum LikeTarget {
+        POST("postLikeNum", "postLikers", true), // 글, 댓글은 좋아요 수 키가 살아있는 동안(3개월)만 좋아요 가능
+        COMMENT("commentLikeNum", "commentLikers", true),
+        ANIMAL("animalLikeNum", "animalLikers", false),
+        GROUP("groupLikeNum", "groupLikers", false);
+
+        private final String counterType;
+        private final String likersType;
+        private final boolean expirable;
+
+        public String getCounterKey(Long targetId) {
+            return counterType + ":" + targetId;
+        }
+
+        public String getLikersKey(Long targetId) {
+            return likersType + ":" + targetId;
+        }
+    }
+
+    private record LikeKey(LikeTarget target, Long targetId) {}
+}
@@ -0,0 +1,112 @@
+package com.hong.ForPaw.service;
+
+import com.amazonaws.SdkClientException;
+import com.hong.ForPaw.domain.Storage.ObjectDeletion;
+import com.hong.ForPaw.repository.Storage.ObjectDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// S3 오브젝트 삭제를 요청 처리 흐름에서 분리
+// 요청 스레드는 삭제할 키를 같은 트랜잭션 안에서 저장만 하고(롤백되면 함께 취소), 실제 삭제는 백그라운드에서 DeleteObjects로 묶어서 처리
+// S3 호출은 트랜잭션 밖에서 하고, 결과만 짧은 트랜잭션으로 반영한다 (S3 응답을 기다리는 동안 커넥션과 락을 잡지 않도록)
+// 여러 서버가 같은 키를 동시에 지워도 S3 삭제는 멱등이라 문제없다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ObjectCleanupService {
+
+    private static final int BATCH_SIZE = 1000; // DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+    private static final int MAX_RETRY_NUM = 5; // 이 횟수만큼 실패하면 더 이상 시도하지 않고 남겨둠
+
+    private final ObjectDeletionRepository objectDeletionRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+
+    // 모니터링용 누적 지표
+    private final AtomicLong deletedNum = new AtomicLong();
+    private final AtomicLong failedNum = new AtomicLong();
+
+    @Transactional
+    public void requestDeletion(List<String> imageURLs) {
+        List<ObjectDeletion> objectDeletions = imageURLs.stream()
+                .map(imageURL -> ObjectDeletion.builder()
+                        .objectKey(s3Service.extractObjectKeyFromUri(imageURL))
+                        .build())
+                .collect(Collectors.toList());
+
+        objectDeletionRepository.saveAll(objectDeletions);
+    }
+
+    @Scheduled(fixedDelay = 1000 * 10) // 10초마다 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void cleanupObjects() {
+        List<ObjectDeletion> objectDeletions = objectDeletionRepository.findPending(MAX_RETRY_NUM, PageRequest.of(0, BATCH_SIZE));
+
+        if (objectDeletions.isEmpty()) {
+            return;
+        }
+
+        List<String> objectKeys = objectDeletions.stream()
+                .map(ObjectDeletion::getObjectKey)
+                .distinct()
+                .toList();
+
+        // 일부 키만 실패하면 해당 키만, 요청 자체가 실패하면 전체를 재시도 대상으로 남긴다
+        Set<String> failedKeys;
+        try {
+            failedKeys = new HashSet<>(s3Service.deleteImages(objectKeys));
+        } catch (SdkClientException e) {
+            log.warn("S3 오브젝트 일괄 삭제 실패: {}", e.getMessage());
+            failedKeys = new HashSet<>(objectKeys);
+        }
+
+        List<Long> completedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (ObjectDeletion objectDeletion : objectDeletions) {
+            (failedKeys.contains(objectDeletion.getObjectKey()) ? failedIds : completedIds).add(objectDeletion.getId());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!completedIds.isEmpty()) {
+                objectDeletionRepository.deleteAllByIdInBatch(completedIds);
+            }
+            if (!failedIds.isEmpty()) {
+                objectDeletionRepository.increaseRetryNumByIds(failedIds);
+            }
+        });
+
+        deletedNum.addAndGet(completedIds.size());
+        failedNum.addAndGet(failedIds.size());
+
+        if (!failedKeys.isEmpty()) {
+            log.warn("S3 오브젝트 삭제 실패 {}건 (누적 삭제 {}건, 누적 실패 {}건)", failedKeys.size(), deletedNum.get(), failedNum.get());
+        }
+    }
+
+    public long getDeletedNum() {
+        return deletedNum.get();
+    }
+
+    public long getFailedNum() {
+        return failedNum.get();
+    }
+
+    // 아직 처리되지 않은 삭제 요청 수
+    public Long countBacklog() {
+        return objectDeletionRepository.countPending(MAX_RETRY_NUM);
+    }
+}
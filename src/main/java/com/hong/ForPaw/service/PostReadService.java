@@ -0,0 +1,149 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Post.Post;
+import com.hong.ForPaw.domain.Post.PostReadStatus;
+import com.hong.ForPaw.domain.User.User;
+import com.hong.ForPaw.repository.Post.PostReadStatusRepository;
+import com.hong.ForPaw.repository.Post.PostRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 게시글 읽음 처리. 조회 시에는 Redis 집합 "postRead:{userId}"에만 추가하고, DB 반영은 모아서 주기적으로 처리
+// 이미 읽은 글은 다시 저장하지 않으므로, 조회할 때마다 행이 쌓이지 않는다
+// 유저별로 트랜잭션을 나눠서 저장하고, 실패하면 다시 대기 목록에 넣어 다음 반영 때 재시도
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostReadService {
+
+    public static final Long POST_READ_EXP = 1000L * 60 * 60 * 24 * 30; // 30일
+
+    private final PostReadStatusRepository postReadStatusRepository;
+    private final PostRepository postRepository;
+    private final RedisService redisService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    // userId => 아직 DB에 반영되지 않은 postId 목록 (compute/remove로만 접근해서 유실 없이 교체)
+    private final Map<Long, Set<Long>> pendingReads = new ConcurrentHashMap<>();
+
+    public void markRead(Long userId, Long postId) {
+        redisService.addSetElements(buildKey(userId), List.of(postId.toString()), POST_READ_EXP);
+
+        pendingReads.compute(userId, (key, postIds) -> {
+            Set<Long> pending = postIds == null ? new HashSet<>() : postIds;
+            pending.add(postId);
+            return pending;
+        });
+    }
+
+    // 현재 페이지의 글 id에 대해서만 읽음 여부를 확인
+    public Set<Long> findReadPostIds(Long userId, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        String key = buildKey(userId);
+        Map<Object, Boolean> membership = redisService.isSetMembers(key, postIds.stream().map(String::valueOf).toList());
+
+        Set<Long> readPostIds = new HashSet<>();
+        List<Long> unknownPostIds = new ArrayList<>();
+        postIds.forEach(postId -> {
+            if (Boolean.TRUE.equals(membership.get(postId.toString()))) {
+                readPostIds.add(postId);
+            } else {
+                unknownPostIds.add(postId);
+            }
+        });
+
+        // Redis에 없는 글(만료 등)만 DB에서 확인하고, 읽은 기록이 있으면 다시 Redis에 채워둔다
+        if (!unknownPostIds.isEmpty()) {
+            List<Long> storedPostIds = postReadStatusRepository.findPostIdsByUserIdAndPostIds(userId, unknownPostIds);
+
+            if (!storedPostIds.isEmpty()) {
+                readPostIds.addAll(storedPostIds);
+                redisService.addSetElements(key, storedPostIds.stream().map(String::valueOf).toList(), POST_READ_EXP);
+            }
+        }
+
+        return readPostIds;
+    }
+
+    // 유저마다 별도 트랜잭션으로 저장하므로, 메서드 자체는 트랜잭션 없이 실행 (클래스의 readOnly 트랜잭션에 합류하지 않도록)
+    @Scheduled(fixedDelay = 5000) // 5초마다 DB에 반영
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushReads() {
+        for (Long userId : new ArrayList<>(pendingReads.keySet())) {
+            Set<Long> postIds = pendingReads.remove(userId);
+
+            if (postIds == null || postIds.isEmpty()) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveReads(userId, postIds));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("읽음 기록 저장 실패 userId={}: {}", userId, e.getMessage());
+                requeue(userId, postIds);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushReads();
+    }
+
+    @Transactional
+    public void removeReadHistory(Long userId) {
+        pendingReads.remove(userId);
+        postReadStatusRepository.deleteAllByUserId(userId);
+        redisService.removeData(buildKey(userId));
+    }
+
+    // 삭제된 글과 이미 저장된 (유저, 글) 쌍은 건너뛰어서 중복 저장하지 않음
+    private void saveReads(Long userId, Set<Long> postIds) {
+        Set<Long> postIdsToSave = new HashSet<>(postRepository.findExistingIds(postIds));
+        postIdsToSave.removeAll(postReadStatusRepository.findPostIdsByUserIdAndPostIds(userId, postIds));
+
+        if (postIdsToSave.isEmpty()) {
+            return;
+        }
+
+        User userRef = entityManager.getReference(User.class, userId);
+        List<PostReadStatus> postReadStatuses = postIdsToSave.stream()
+                .map(postId -> PostReadStatus.builder()
+                        .user(userRef)
+                        .post(entityManager.getReference(Post.class, postId))
+                        .build())
+                .collect(Collectors.toList());
+
+        postReadStatusRepository.saveAll(postReadStatuses);
+    }
+
+    // 저장하는 동안 새로 쌓인 글 id와 합친다
+    private void requeue(Long userId, Set<Long> postIds) {
+        pendingReads.merge(userId, postIds, (pending, failed) -> {
+            pending.addAll(failed);
+            return pending;
+        });
+    }
+
+    private String buildKey(Long userId) {
+        return "postRead:" + userId;
+    }
+}
@@ -7,28 +7,20 @@ import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.core.errors.ExceptionCode;
 import com.hong.ForPaw.domain.Alarm.AlarmType;
 import com.hong.ForPaw.domain.Post.*;
-import com.hong.ForPaw.domain.Report.Report;
-import com.hong.ForPaw.domain.Report.ReportTargetType;
-import com.hong.ForPaw.domain.Report.RepostStatus;
 import com.hong.ForPaw.domain.User.UserRole;
 import com.hong.ForPaw.domain.User.User;
 import com.hong.ForPaw.repository.Post.*;
-import com.hong.ForPaw.repository.ReportRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.bind.annotation.RequestBody;
 
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.Period;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -44,12 +36,23 @@ public class PostService {
     private final PostReadStatusRepository postReadStatusRepository;
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
-    private final ReportRepository reportRepository;
     private final RedisService redisService;
-    private final S3Service s3Service;
-    private final BrokerService brokerService;
+    private final ObjectCleanupService objectCleanupService;
+    private final AlarmOutboxService alarmOutboxService;
+    private final DashboardStatsService dashboardStatsService;
+    private final PostReadService postReadService;
+    private final TrendingService trendingService;
+    private final LikeService likeService;
     private final EntityManager entityManager;
     public static final Long POST_EXP = 1000L * 60 * 60 * 24 * 90; // 세 달
+    private static final int COMMENT_PAGE_SIZE = 10;
+    private static final int COMMENT_PAGE_SIZE_MAX = 50;
+    private static final int REPLY_PREVIEW_SIZE = 3;
+    private static final int TRENDING_SIZE_MAX = 50;
+    private static final int ANSWER_PAGE_SIZE = 10;
+    private static final int ANSWER_PAGE_SIZE_MAX = 50;
+    private static final String ANSWER_SORT_DATE = "date";
+    private static final String ANSWER_SORT_LIKE = "likeNum";
 
     @Transactional
     public PostResponse.CreatePostDTO createPost(PostRequest.CreatePostDTO requestDTO, Long userId){
@@ -76,6 +79,8 @@ public class PostService {
         // 3개월 동안만 좋아요를 할 수 있다
         redisService.storeValue("postLikeNum", post.getId().toString(), "0", POST_EXP);
 
+        dashboardStatsService.recordPostCreated();
+
         return new PostResponse.CreatePostDTO(post.getId());
     }
 
@@ -114,6 +119,7 @@ public class PostService {
 
         // 답변수 증가
         postRepository.incrementAnswerNum(parentPostId);
+        dashboardStatsService.recordPostCreated();
 
         // 알림 생성
         String content = "새로운 답변: " + requestDTO.content();
@@ -127,7 +133,7 @@ public class PostService {
                 date,
                 AlarmType.answer);
 
-        brokerService.produceAlarm(parentPost.getUser().getId(), alarmDTO);
+        alarmOutboxService.enqueueAlarm(parentPost.getUser().getId(), alarmDTO);
 
         return new PostResponse.CreateAnswerDTO(post.getId());
     }
@@ -185,7 +191,26 @@ public class PostService {
         return new PostResponse.FindQnaPostListDTO(qnaDTOS);
     }
 
-    @Transactional
+    public PostResponse.FindTrendingPostListDTO findTrendingPostList(Integer size){
+        // 순위는 정렬 집합에서 가져오고, 글 정보는 해당 id들만 조회
+        List<Long> postIds = trendingService.findTrendingPostIds(Math.max(1, Math.min(size, TRENDING_SIZE_MAX)));
+        if(postIds.isEmpty()){
+            return new PostResponse.FindTrendingPostListDTO(new ArrayList<>());
+        }
+
+        Map<Long, PostRepositoryCustom.PostSummary> postMap = postRepository.findPostSummariesByIds(postIds).stream()
+                .collect(Collectors.toMap(PostRepositoryCustom.PostSummary::id, post -> post));
+
+        List<PostRepositoryCustom.PostSummary> posts = postIds.stream()
+                .map(postMap::get)
+                .filter(post -> post != null && !post.postType().equals(PostType.question))
+                .toList();
+
+        List<PostResponse.PostDTO> postDTOS = toPostDTOs(posts);
+
+        return new PostResponse.FindTrendingPostListDTO(postDTOS);
+    }
+
     public PostResponse.FindPostByIdDTO findPostById(Long postId, Long userId){
         // user, postImages를 패치조인 해서 조회
         Post post = postRepository.findById(postId).orElseThrow(
@@ -196,43 +221,17 @@ public class PostService {
             throw new CustomException(ExceptionCode.IS_QUESTION_TYPE);
         }
 
+        if(post.getHiddenAt() != null){
+            throw new CustomException(ExceptionCode.POST_HIDDEN);
+        }
+
         // 게시글 이미지 DTO
         List<PostResponse.PostImageDTO> postImageDTOS = post.getPostImages().stream()
                 .map(postImage -> new PostResponse.PostImageDTO(postImage.getId(), postImage.getImageURL()))
                 .collect(Collectors.toList());
 
-        // 댓글 DTO (특정 게시글에 대한 모든 댓글 및 대댓글을 들고 있음)
-        List<PostResponse.CommentDTO> commentDTOS = new ArrayList<>();
-        Map<Long, PostResponse.CommentDTO> commentMap = new HashMap<>(); // map을 사용해서 대댓글을 해당 부모 댓글에 추가
-
-        List<Comment> comments = commentRepository.findAllByPostIdWithUserAndParent(postId);
-        comments.forEach(comment -> {
-            // 부모 댓글이면, CommentDTO로 변환해서 commentDTOS 리스트에 추가
-            if (comment.getParent() == null) {
-                PostResponse.CommentDTO commentDTO = new PostResponse.CommentDTO(
-                        comment.getId(),
-                        comment.getUser().getNickName(),
-                        comment.getContent(),
-                        comment.getCreatedDate(),
-                        comment.getUser().getProvince(),
-                        new ArrayList<>());
-
-                commentDTOS.add(commentDTO);
-                commentMap.put(comment.getId(), commentDTO);
-            }
-            else { // 자식 댓글이면, ReplyDTO로 변환해서 부모 댓글의 replies 리스트에 추가
-                PostResponse.ReplyDTO replyDTO = new PostResponse.ReplyDTO(
-                        comment.getId(),
-                        comment.getParent().getUser().getNickName(),
-                        comment.getUser().getNickName(),
-                        comment.getContent(),
-                        comment.getCreatedDate(),
-                        comment.getUser().getProvince());
-
-                Long parentId = comment.getParent().getId();
-                commentMap.get(parentId).replies().add(replyDTO);
-            }
-        });
+        // 댓글은 첫 페이지만 (부모 댓글 + 부모당 일부 대댓글), 나머지는 커서로 이어서 조회
+        PostResponse.FindCommentListDTO commentListDTO = findCommentPage(postId, 0L, COMMENT_PAGE_SIZE);
 
         // 좋아요 수
         Long likeNum = redisService.getDataInLongWithNull("postLikeNum", postId.toString());
@@ -240,19 +239,49 @@ public class PostService {
             likeNum = post.getLikeNum();
         }
 
-        // 게시글 읽음 처리
-        User userRef = entityManager.getReference(User.class, userId);
-        PostReadStatus postReadStatus = PostReadStatus.builder()
-                .post(post)
-                .user(userRef)
-                .build();
+        // 게시글 읽음 처리 (DB 반영은 PostReadService에서 모아서 처리)
+        postReadService.markRead(userId, postId);
 
-        postReadStatusRepository.save(postReadStatus);
+        // 조회수, 인기글 점수 반영
+        trendingService.recordView(postId, post.getPostType());
+        Long viewNum = trendingService.getViewNum(postId, post.getViewNum());
 
-        return new PostResponse.FindPostByIdDTO(post.getUser().getNickName(), post.getTitle(), post.getContent(), post.getCreatedDate(), post.getCommentNum(), likeNum, postImageDTOS, commentDTOS);
+        return new PostResponse.FindPostByIdDTO(post.getUser().getNickName(), post.getTitle(), post.getContent(), post.getCreatedDate(), post.getCommentNum(), likeNum, viewNum, postImageDTOS, commentListDTO.comments(), commentListDTO.nextCursor());
+    }
+
+    public PostResponse.FindCommentListDTO findCommentList(Long postId, Long cursor, Integer size){
+        if(!postRepository.existsById(postId)){
+            throw new CustomException(ExceptionCode.POST_NOT_FOUND);
+        }
+
+        // 0 이하나 최대값을 넘는 크기는 1 ~ 최대값 사이로 맞춘다
+        return findCommentPage(postId, cursor, Math.max(1, Math.min(size, COMMENT_PAGE_SIZE_MAX)));
+    }
+
+    public PostResponse.FindReplyListDTO findReplyList(Long postId, Long commentId, Long cursor, Integer size){
+        // 부모 댓글 작성자 닉네임은 대댓글 DTO마다 필요하므로 한 번만 조회
+        String parentNickName = commentRepository.findParentNickNameByIdAndPostId(commentId, postId).orElseThrow(
+                () -> new CustomException(ExceptionCode.COMMENT_NOT_FOUND)
+        );
+
+        int pageSize = Math.max(1, Math.min(size, COMMENT_PAGE_SIZE_MAX));
+
+        // 다음 페이지 존재 여부를 알기 위해 한 개 더 조회
+        List<CommentRepository.ReplyProjection> replies = commentRepository.findRepliesByParentId(commentId, cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = replies.size() > pageSize;
+        if(hasNext){
+            replies = replies.subList(0, pageSize);
+        }
+
+        List<PostResponse.ReplyDTO> replyDTOS = replies.stream()
+                .map(reply -> toReplyDTO(reply, parentNickName))
+                .collect(Collectors.toList());
+
+        Long nextCursor = hasNext ? replies.get(replies.size() - 1).getId() : null;
+
+        return new PostResponse.FindReplyListDTO(replyDTOS, nextCursor);
     }
 
-    @Transactional
     public PostResponse.FIndQnaByIdDTO findQnaById(Long postId){
         // user, postImages를 패치조인 해서 조회
         Post post = postRepository.findById(postId).orElseThrow(
@@ -264,28 +293,31 @@ public class PostService {
             throw new CustomException(ExceptionCode.NOT_QUESTION_TYPE);
         }
 
+        if(post.getHiddenAt() != null){
+            throw new CustomException(ExceptionCode.POST_HIDDEN);
+        }
+
         // 게시글 이미지 DTO
         List<PostResponse.PostImageDTO> postImageDTOS = post.getPostImages().stream()
                 .map(postImage -> new PostResponse.PostImageDTO(postImage.getId(), postImage.getImageURL()))
                 .collect(Collectors.toList());
 
-        // 답변 게시글 DTO
-        List<PostResponse.AnswerDTO> answerDTOS = postRepository.findByParentIdWithUser(postId).stream()
-                .map(answer -> {
-                    List<PostResponse.PostImageDTO> answerImageDTOS = answer.getPostImages().stream()
-                            .map(postImage -> new PostResponse.PostImageDTO(postImage.getId(), postImage.getImageURL()))
-                            .collect(Collectors.toList());
+        // 답변은 첫 페이지만 (작성 순), 나머지는 커서로 이어서 조회
+        PostResponse.FindAnswerListDTO answerListDTO = findAnswerPage(postId, ANSWER_SORT_DATE, 0L, null, ANSWER_PAGE_SIZE);
 
-                    return new PostResponse.AnswerDTO(
-                            answer.getId(),
-                            answer.getUser().getNickName(),
-                            answer.getContent(),
-                            answer.getCreatedDate(),
-                            answerImageDTOS);
-                })
-                .collect(Collectors.toList());
+        return new PostResponse.FIndQnaByIdDTO(post.getUser().getNickName(), post.getTitle(), post.getContent(), post.getCreatedDate(), post.getAnswerNum(), postImageDTOS, answerListDTO.answers(), answerListDTO.nextCursor());
+    }
 
-        return new PostResponse.FIndQnaByIdDTO(post.getUser().getNickName(), post.getTitle(), post.getContent(), post.getCreatedDate(), postImageDTOS, answerDTOS);
+    public PostResponse.FindAnswerListDTO findAnswerList(Long postId, String sort, Long cursor, Long likeNum, Integer size){
+        PostType postType = postRepository.findPostTypeByPostId(postId).orElseThrow(
+                () -> new CustomException(ExceptionCode.POST_NOT_FOUND)
+        );
+
+        if(!postType.equals(PostType.question)){
+            throw new CustomException(ExceptionCode.NOT_QUESTION_TYPE);
+        }
+
+        return findAnswerPage(postId, sort, cursor, likeNum, Math.max(1, Math.min(size, ANSWER_PAGE_SIZE_MAX)));
     }
 
     @Transactional
@@ -301,21 +333,20 @@ public class PostService {
         // 제목, 본문 업데이트
         post.updatePost(requestDTO.title(), requestDTO.content());
 
-        // 유지할 이미지를 제외한 모든 이미지 DB와 S3에서 삭제
-        List<PostImage> postImages = post.getPostImages();
+        // 유지할 이미지를 제외한 모든 이미지 DB에서 삭제하고, S3 삭제는 요청만 남김
+        List<Long> retainedImageIds = requestDTO.retainedImageIds() != null ? requestDTO.retainedImageIds() : Collections.emptyList();
+        List<String> removedImageURLs = post.getPostImages().stream()
+                .filter(postImage -> !retainedImageIds.contains(postImage.getId()))
+                .map(PostImage::getImageURL)
+                .collect(Collectors.toList());
 
-        if (requestDTO.retainedImageIds() != null && !requestDTO.retainedImageIds().isEmpty()) {
-            postImageRepository.deleteByPostIdAndIdNotIn(postId, requestDTO.retainedImageIds());
+        if (!retainedImageIds.isEmpty()) {
+            postImageRepository.deleteByPostIdAndIdNotIn(postId, retainedImageIds);
         } else {
             postImageRepository.deleteByPostId(postId);
         }
 
-        postImages.stream()
-                .filter(postImage -> !requestDTO.retainedImageIds().contains(postImage.getId()))
-                .forEach(postImage -> {
-                    String objectKey = s3Service.extractObjectKeyFromUri(postImage.getImageURL());
-                    s3Service.deleteImage(objectKey);
-                });
+        objectCleanupService.requestDeletion(removedImageURLs);
 
         // 새 이미지 추가
         List<PostImage> newImages = requestDTO.newImages().stream()
@@ -344,13 +375,11 @@ public class PostService {
             postRepository.decrementAnswerNum(parent.getId());
         }
 
-        // S3에 저장된 이미지 삭제
-        post.getPostImages().forEach(
-                postImage -> {
-                    String objectKey = s3Service.extractObjectKeyFromUri(postImage.getImageURL());
-                    s3Service.deleteImage(objectKey);
-                }
-        );
+        // S3에 저장된 이미지는 삭제 요청만 남기고, 백그라운드에서 일괄 삭제
+        List<String> imageURLs = post.getPostImages().stream()
+                .map(PostImage::getImageURL)
+                .collect(Collectors.toList());
+        objectCleanupService.requestDeletion(imageURLs);
 
         postLikeRepository.deleteAllByPostId(postId);
         postReadStatusRepository.deleteAllByPostId(postId);
@@ -361,33 +390,24 @@ public class PostService {
 
     @Transactional
     public void likePost(Long postId, Long userId){
-        // 존재하지 않는 글이면 에러
-        Long postWriterId = postRepository.findUserIdByPostId(postId).orElseThrow(
+        // 존재하지 않는 글이면 에러 (인기글 점수 반영을 위해 글 종류도 함께 조회)
+        PostRepository.WriterProjection writer = postRepository.findWriterByPostId(postId).orElseThrow(
                 () -> new CustomException(ExceptionCode.POST_NOT_FOUND)
         );
 
         // 자기 자신의 글에는 좋아요를 할 수 없다.
-        if (postWriterId.equals(userId)) {
+        if (writer.getUserId().equals(userId)) {
             throw new CustomException(ExceptionCode.CANT_LIKE_MY_POST);
         }
 
-        Optional<PostLike> postLikeOP = postLikeRepository.findByUserIdAndPostId(userId, postId);
+        // 좋아요 상태 전환과 좋아요 수 증감을 Redis에서 원자적으로 처리 (DB 반영은 비동기)
+        boolean liked = likeService.toggleLike(LikeService.LikeTarget.POST, postId, userId);
 
-        // 이미 좋아요를 눌렀다면, 취소하는 액션이니 게시글의 좋아요 수를 감소시키고 하고, postLike 엔티티 삭제
-        if(postLikeOP.isPresent()){
-            checkExpiration(postLikeOP.get().getCreatedDate());
-
-            postLikeRepository.delete(postLikeOP.get());
-            redisService.decrementCnt("postLikeNum", postId.toString(), 1L);
+        if(liked){
+            trendingService.recordLike(postId, writer.getPostType());
         }
-        else { // 좋아요를 누르지 않았다면, 좋아요 수를 증가키고, 엔티티 저장
-            User userRef = entityManager.getReference(User.class, userId);
-            Post postRef = entityManager.getReference(Post.class, postId);
-
-            PostLike postLike = PostLike.builder().user(userRef).post(postRef).build();
-
-            postLikeRepository.save(postLike);
-            redisService.incrementCnt("postLikeNum", postId.toString(), 1L);
+        else {
+            trendingService.recordUnlike(postId, writer.getPostType());
         }
     }
 
@@ -431,6 +451,8 @@ public class PostService {
 
         // 게시글의 댓글 수 증가
         postRepository.incrementCommentNum(postId);
+        dashboardStatsService.recordCommentCreated();
+        trendingService.recordComment(postId);
 
         // 3개월 동안만 좋아요를 할 수 있다
         redisService.storeValue("commentLikeNum", comment.getId().toString(), "0", POST_EXP);
@@ -447,7 +469,7 @@ public class PostService {
                 date,
                 AlarmType.comment);
 
-        brokerService.produceAlarm(writerId, alarmDTO);
+        alarmOutboxService.enqueueAlarm(writerId, alarmDTO);
 
         return new PostResponse.CreateCommentDTO(comment.getId());
     }
@@ -477,6 +499,8 @@ public class PostService {
 
         // 게시글의 댓글 수 증가
         postRepository.incrementCommentNum(postId);
+        dashboardStatsService.recordCommentCreated();
+        trendingService.recordComment(postId);
 
         // 3개월 동안만 좋아요를 할 수 있다
         redisService.storeValue("commentLikeNum", comment.getId().toString(), "0", POST_EXP);
@@ -493,7 +517,7 @@ public class PostService {
                 date,
                 AlarmType.comment);
 
-        brokerService.produceAlarm(parentComment.getUser().getId(), alarmDTO);
+        alarmOutboxService.enqueueAlarm(parentComment.getUser().getId(), alarmDTO);
 
         return new PostResponse.CreateCommentDTO(comment.getId());
     }
@@ -550,112 +574,155 @@ public class PostService {
             throw new CustomException(ExceptionCode.CANT_LIKE_MY_COMMENT);
         }
 
-        Optional<CommentLike> commentLikeOP = commentLikeRepository.findByUserIdAndCommentId(userId, commentId);
+        likeService.toggleLike(LikeService.LikeTarget.COMMENT, commentId, userId);
+    }
 
-        // 이미 좋아요를 눌렀다면, 취소하는 액션이니 게시글의 좋아요 수를 감소시키고 하고, postLike 엔티티 삭제
-        if(commentLikeOP.isPresent()){
-            checkExpiration(commentLikeOP.get().getCreatedDate());
+    public List<PostResponse.PostDTO> getPostDTOsByType(PostType postType, Pageable pageable){
+        // 목록에 필요한 컬럼과 첫 번째 이미지만 한 번의 쿼리로 조회
+        List<PostRepositoryCustom.PostSummary> posts = postRepository.findPostSummariesByType(postType, pageable);
 
-            commentLikeRepository.delete(commentLikeOP.get());
-            redisService.decrementCnt("commentLikeNum", commentId.toString(), 1L);
-        }
-        else{ // 좋아요를 누르지 않았다면, 좋아요 수를 증가키고, 엔티티 저장
-            User userRef = entityManager.getReference(User.class, userId);
-            Comment commentRef = entityManager.getReference(Comment.class, commentId);
+        return toPostDTOs(posts);
+    }
 
-            CommentLike commentLike = CommentLike.builder().user(userRef).comment(commentRef).build();
+    public List<PostResponse.QnaDTO> getQnaDTOs(Pageable pageable){
+        List<PostResponse.QnaDTO> qnaDTOS = postRepository.findQnaSummaries(pageable).stream()
+                .map(qna -> new PostResponse.QnaDTO(
+                            qna.id(),
+                            qna.nickName(),
+                            qna.title(),
+                            qna.content(),
+                            qna.createdDate(),
+                            qna.answerNum()))
+                .collect(Collectors.toList());
 
-            commentLikeRepository.save(commentLike);
-            redisService.incrementCnt("commentLikeNum", commentId.toString(), 1L);
-        }
+        return qnaDTOS;
     }
 
-    @Transactional
-    public void submitReport(@RequestBody PostRequest.SubmitReport requestDTO, Long userId){
-        // 프록시 객체
-        User reporter = entityManager.getReference(User.class, userId);
-
-        Post post = null;
-        Comment comment = null;
-
-        if (requestDTO.targetType() == ReportTargetType.POST && requestDTO.postId() != null) {
-            post = postRepository.findById(requestDTO.postId())
-                    .orElseThrow(() -> new CustomException(ExceptionCode.POST_NOT_FOUND));
-
-            // 이미 신고했거나 자신의 컨텐츠에 대해 신고하려고 하면 에러 발생
-            if(reportRepository.existsByUserIdAndPostId(userId, requestDTO.postId()))
-                throw new CustomException(ExceptionCode.ALREADY_REPORTED);
-            else if(userId.equals(post.getUser().getId()))
-                throw new CustomException(ExceptionCode.CANNOT_REPORT_OWN_CONTENT);
-
-        } else if (requestDTO.targetType() == ReportTargetType.COMMENT && requestDTO.commentId() != null) {
-            comment = commentRepository.findById(requestDTO.commentId())
-                    .orElseThrow(() -> new CustomException(ExceptionCode.COMMENT_NOT_FOUND));
-
-            if(reportRepository.existsByUserIdAndCommentId(userId, requestDTO.commentId()))
-                throw new CustomException(ExceptionCode.ALREADY_REPORTED);
-            else if(userId.equals(comment.getUser().getId()))
-                throw new CustomException(ExceptionCode.CANNOT_REPORT_OWN_CONTENT);
+    private List<PostResponse.PostDTO> toPostDTOs(List<PostRepositoryCustom.PostSummary> posts){
+        Map<Long, Long> likeNums = likeService.findLikeNums(LikeService.LikeTarget.POST, posts, PostRepositoryCustom.PostSummary::id, PostRepositoryCustom.PostSummary::likeNum);
+
+        return posts.stream()
+                .map(post -> new PostResponse.PostDTO(
+                        post.id(),
+                        post.nickName(),
+                        post.title(),
+                        post.content(),
+                        post.createdDate(),
+                        post.commentNum(),
+                        likeNums.get(post.id()),
+                        post.imageURL()))
+                .collect(Collectors.toList());
+    }
+
+    // 부모 댓글 조회 1번 + 대댓글 조회 1번으로 댓글 트리 한 페이지를 구성
+    private PostResponse.FindCommentListDTO findCommentPage(Long postId, Long cursor, int size){
+        List<CommentRepository.CommentProjection> comments = commentRepository.findParentCommentsByPostId(postId, cursor, PageRequest.of(0, size + 1));
+        boolean hasNext = comments.size() > size;
+        if(hasNext){
+            comments = comments.subList(0, size);
         }
-        else{ // postId와 commentId 모두 null인 경우
-            throw new CustomException(ExceptionCode.REPORT_TARGET_MISSING);
+
+        if(comments.isEmpty()){
+            return new PostResponse.FindCommentListDTO(new ArrayList<>(), null);
         }
 
-        Report report = Report.builder()
-                .reporter(reporter)
-                .post(post)
-                .comment(comment)
-                .type(requestDTO.type())
-                .targetType(requestDTO.targetType())
-                .status(RepostStatus.PROCESSING)
-                .reason(requestDTO.reason())
-                .build();
+        List<Long> parentIds = comments.stream()
+                .map(CommentRepository.CommentProjection::getId)
+                .collect(Collectors.toList());
 
-        reportRepository.save(report);
-    }
+        // 부모 댓글 id => 미리보기 대댓글 (쿼리 결과가 parentId, id 순으로 정렬되어 있음)
+        Map<Long, List<CommentRepository.ReplyProjection>> repliesByParent = commentRepository.findRepliesByParentIds(parentIds, REPLY_PREVIEW_SIZE).stream()
+                .collect(Collectors.groupingBy(CommentRepository.ReplyProjection::getParentId));
 
-    public List<PostResponse.PostDTO> getPostDTOsByType(PostType postType, Pageable pageable){
-        // 유저를 패치조인하여 조회
-        Page<Post> postPage = postRepository.findByPostTypeWithUser(postType, pageable);
-
-        List<PostResponse.PostDTO> postDTOS = postPage.getContent().stream()
-                .map(post ->  {
-                    // 캐싱 기간이 지나 캐싱이 불가능하면, DB에서 조회
-                    Long likeNum = redisService.getDataInLongWithNull("postLikeNum", post.getId().toString());
-                    if(likeNum == null){
-                        likeNum = post.getLikeNum();
-                    }
-
-                    return new PostResponse.PostDTO(
-                            post.getId(),
-                            post.getUser().getNickName(),
-                            post.getTitle(),
-                            post.getContent(),
-                            post.getCreatedDate(),
-                            post.getCommentNum(),
-                            likeNum,
-                            post.getPostImages().get(0).getImageURL());
+        List<PostResponse.CommentDTO> commentDTOS = comments.stream()
+                .map(comment -> {
+                    List<CommentRepository.ReplyProjection> replies = repliesByParent.getOrDefault(comment.getId(), Collections.emptyList());
+                    Long replyNum = replies.isEmpty() ? 0L : replies.get(0).getReplyNum();
+
+                    List<PostResponse.ReplyDTO> replyDTOS = replies.stream()
+                            .map(reply -> toReplyDTO(reply, comment.getNickName()))
+                            .collect(Collectors.toList());
+
+                    return new PostResponse.CommentDTO(
+                            comment.getId(),
+                            comment.getNickName(),
+                            comment.getContent(),
+                            comment.getCreatedDate(),
+                            comment.getProvince(),
+                            replyNum,
+                            replyDTOS);
                 })
                 .collect(Collectors.toList());
 
-        return postDTOS;
+        Long nextCursor = hasNext ? comments.get(comments.size() - 1).getId() : null;
+
+        return new PostResponse.FindCommentListDTO(commentDTOS, nextCursor);
     }
 
-    public List<PostResponse.QnaDTO> getQnaDTOs(Pageable pageable){
-        // 유저를 패치조인하여 조회
-        Page<Post> postPage = postRepository.findByPostTypeWithUser(PostType.question, pageable);
-
-        List<PostResponse.QnaDTO> qnaDTOS = postPage.getContent().stream()
-                .map(post -> new PostResponse.QnaDTO(
-                            post.getId(),
-                            post.getUser().getNickName(),
-                            post.getTitle(),
-                            post.getContent(),
-                            post.getCreatedDate(),
-                            post.getAnswerNum()))
+    // 답변 조회 1번 + 해당 페이지 답변들의 이미지 조회 1번
+    private PostResponse.FindAnswerListDTO findAnswerPage(Long postId, String sort, Long cursor, Long likeNum, int size){
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        // 좋아요 순 커서는 (좋아요 수, id)가 함께 와야 한다 (하나만 오면 첫 페이지로 돌아가지 않고 에러)
+        boolean hasCursor = cursor != null && cursor > 0;
+        if(sort.equals(ANSWER_SORT_LIKE) && hasCursor != (likeNum != null)){
+            throw new CustomException(ExceptionCode.BAD_APPROACH);
+        }
+
+        List<PostRepository.AnswerProjection> answers = switch (sort) {
+            case ANSWER_SORT_DATE -> postRepository.findAnswersOrderByDate(postId, cursor != null ? cursor : 0L, pageable);
+            // 첫 페이지는 커서가 없으므로 최댓값부터 시작
+            case ANSWER_SORT_LIKE -> postRepository.findAnswersOrderByLikeNum(postId,
+                    likeNum != null ? likeNum : Long.MAX_VALUE,
+                    hasCursor ? cursor : Long.MAX_VALUE,
+                    pageable);
+            default -> throw new CustomException(ExceptionCode.BAD_APPROACH);
+        };
+
+        boolean hasNext = answers.size() > size;
+        if(hasNext){
+            answers = answers.subList(0, size);
+        }
+
+        if(answers.isEmpty()){
+            return new PostResponse.FindAnswerListDTO(new ArrayList<>(), null);
+        }
+
+        List<Long> answerIds = answers.stream()
+                .map(PostRepository.AnswerProjection::getId)
+                .toList();
+
+        Map<Long, List<PostResponse.PostImageDTO>> imagesByAnswer = postImageRepository.findByPostIds(answerIds).stream()
+                .collect(Collectors.groupingBy(postImage -> postImage.getPost().getId(),
+                        Collectors.mapping(postImage -> new PostResponse.PostImageDTO(postImage.getId(), postImage.getImageURL()), Collectors.toList())));
+
+        // 보여주는 좋아요 수는 다른 화면과 같이 Redis 값을 사용 (커서에는 정렬 기준인 DB 값을 그대로 사용)
+        Map<Long, Long> likeNums = likeService.findLikeNums(LikeService.LikeTarget.POST, answers, PostRepository.AnswerProjection::getId, PostRepository.AnswerProjection::getLikeNum);
+
+        List<PostResponse.AnswerDTO> answerDTOS = answers.stream()
+                .map(answer -> new PostResponse.AnswerDTO(
+                        answer.getId(),
+                        answer.getNickName(),
+                        answer.getContent(),
+                        answer.getCreatedDate(),
+                        likeNums.get(answer.getId()),
+                        imagesByAnswer.getOrDefault(answer.getId(), new ArrayList<>())))
                 .collect(Collectors.toList());
 
-        return qnaDTOS;
+        PostRepository.AnswerProjection last = answers.get(answers.size() - 1);
+        PostResponse.AnswerCursorDTO nextCursor = hasNext ? new PostResponse.AnswerCursorDTO(last.getId(), last.getLikeNum()) : null;
+
+        return new PostResponse.FindAnswerListDTO(answerDTOS, nextCursor);
+    }
+
+    private PostResponse.ReplyDTO toReplyDTO(CommentRepository.ReplyProjection reply, String parentNickName){
+        return new PostResponse.ReplyDTO(
+                reply.getId(),
+                parentNickName,
+                reply.getNickName(),
+                reply.getContent(),
+                reply.getCreatedDate(),
+                reply.getProvince());
     }
 
     private Pageable createPageable(int page, int size, String sortProperty) {
@@ -684,17 +751,6 @@ public class PostService {
         }
     }
 
-    private void checkExpiration(LocalDateTime date){
-        LocalDate likeDate =  date.toLocalDate();
-        LocalDate now = LocalDate.now();
-        Period period = Period.between(likeDate, now);
-
-        // 기간이 3개월 이상이면 좋아요를 할 수 없다
-        if (period.getMonths() >= 3 || period.getYears() > 0) {
-            throw new CustomException(ExceptionCode.POST_LIKE_EXPIRED);
-        }
-    }
-
     private void checkPostOwnComment(Comment comment, Long postId){
         Long commentPostId = comment.getPost().getId();
 
@@ -1,19 +1,34 @@
 package com.hong.ForPaw.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
 import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
 
+    // 락을 잡은 쪽(token이 같은 쪽)만 해제할 수 있다. 만료 후 다른 서버가 잡은 락을 지우지 않도록 비교와 삭제를 한 번에 실행
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
     // 데이터 저장 (유효 기간 존재)
@@ -37,6 +52,103 @@ public class RedisService {
         redisTemplate.expire(key, expirationTime, TimeUnit.SECONDS);
     }
 
+    public void addSetElements(String key, Collection<String> values, Long expirationTime) {
+        redisTemplate.opsForSet().add(key, values.toArray(new String[0]));
+        redisTemplate.expire(key, expirationTime, TimeUnit.MILLISECONDS);
+    }
+
+    // 여러 값의 포함 여부를 한 번에 확인 (SMISMEMBER)
+    public Map<Object, Boolean> isSetMembers(String key, Collection<String> values) {
+        return redisTemplate.opsForSet().isMember(key, values.toArray());
+    }
+
+    public boolean isKeyExist(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    // HyperLogLog에 원소 추가 (PFADD)
+    public void addHyperLogLog(String key, Collection<String> values) {
+        redisTemplate.opsForHyperLogLog().add(key, values.toArray(new String[0]));
+    }
+
+    // 여러 HyperLogLog를 destination으로 병합 (PFMERGE)
+    public void mergeHyperLogLog(String destination, String... sourceKeys) {
+        redisTemplate.opsForHyperLogLog().union(destination, sourceKeys);
+    }
+
+    // 고유 원소 수 추정치 반환 (PFCOUNT)
+    public Long countHyperLogLog(String key) {
+        Long count = redisTemplate.opsForHyperLogLog().size(key);
+        return count != null ? count : 0L;
+    }
+
+    // 해시 필드 값 증감 (HINCRBY)
+    public void incrementHashValue(String key, String field, Long delta) {
+        redisTemplate.<String, String>opsForHash().increment(key, field, delta);
+    }
+
+    // 해시 필드 여러 개를 한 번에 저장 (HSET)
+    public void putHashEntries(String key, Map<String, String> entries) {
+        redisTemplate.<String, String>opsForHash().putAll(key, entries);
+    }
+
+    // 해시 전체 조회 (HGETALL)
+    public Map<String, String> getHashEntries(String key) {
+        return redisTemplate.<String, String>opsForHash().entries(key);
+    }
+
+    public Long getHashValueInLong(String key, String field) {
+        Object value = redisTemplate.opsForHash().get(key, field);
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+
+    // 정렬 집합 점수 증감 (ZINCRBY)
+    public void incrementSortedSetScore(String key, String member, double delta, Long expirationTime) {
+        redisTemplate.opsForZSet().incrementScore(key, member, delta);
+        redisTemplate.expire(key, expirationTime, TimeUnit.MILLISECONDS);
+    }
+
+    // 여러 정렬 집합을 가중치를 적용해 합산한 뒤 destination에 저장하고, 상위 limit개만 남김 (ZUNIONSTORE)
+    public void unionSortedSets(String destination, List<String> sourceKeys, double[] weights, long limit) {
+        redisTemplate.opsForZSet().unionAndStore(sourceKeys.get(0), sourceKeys.subList(1, sourceKeys.size()), destination,
+                Aggregate.SUM, Weights.of(weights));
+        redisTemplate.opsForZSet().removeRange(destination, 0, -(limit + 1));
+    }
+
+    // 점수가 높은 순으로 count개 반환 (ZREVRANGE)
+    public List<String> getTopMembersOfSortedSet(String key, long count) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key, 0, count - 1);
+        return members != null ? new ArrayList<>(members) : new ArrayList<>();
+    }
+
+    // 키가 존재하면 이름을 바꾸고 true 반환. 집계 중인 데이터를 새로 쌓이는 데이터와 분리할 때 사용
+    public boolean renameKey(String key, String newKey) {
+        if (!isKeyExist(key)) {
+            return false;
+        }
+
+        redisTemplate.rename(key, newKey);
+        return true;
+    }
+
+    // newKey가 없을 때만 이름을 바꾼다 (RENAMENX). 이전 집계가 남아 있으면 덮어쓰지 않고 false 반환
+    public boolean renameKeyIfAbsent(String key, String newKey) {
+        if (!isKeyExist(key)) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(redisTemplate.renameIfAbsent(key, newKey));
+    }
+
+    // 여러 서버에서 같은 작업이 동시에 실행되지 않도록 잡는 락 (SET NX PX). 작업이 중간에 죽어도 만료 시간이 지나면 풀린다
+    public boolean acquireLock(String key, String token, Long expirationTime) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, expirationTime, TimeUnit.MILLISECONDS));
+    }
+
+    public void releaseLock(String key, String token) {
+        redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(key), token);
+    }
+
     public void addListElementWithLimit(String key, String value, Long limit) {
         ListOperations<String, String> listOps = redisTemplate.opsForList();
         listOps.leftPush(key, value);
@@ -59,6 +171,10 @@ public class RedisService {
         redisTemplate.expire(buildKey(type, id), expirationTime, TimeUnit.MILLISECONDS);
     }
 
+    public void setExpireDate(String key, Long expirationTime){
+        redisTemplate.expire(key, expirationTime, TimeUnit.MILLISECONDS);
+    }
+
     // 데이터 존재 여부
     public boolean isDateExist(String type, String id) {
         return Boolean.TRUE.equals(redisTemplate.hasKey(buildKey(type, id)));
@@ -94,6 +210,18 @@ public class RedisService {
         else { return null;}
     }
 
+    // 여러 id의 값을 MGET 한 번으로 조회, 값이 없는 위치는 null
+    public List<Long> getDataInLongs(String type, List<Long> ids){
+        if(ids.isEmpty()) return new ArrayList<>();
+
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(id -> buildKey(type, id.toString())).toList());
+        if(values == null) return new ArrayList<>(Collections.nCopies(ids.size(), null));
+
+        return values.stream()
+                .map(value -> value != null ? Long.valueOf(value) : null)
+                .collect(Collectors.toList());
+    }
+
     // 데이터 반환 - String 반환
     public String getDataInStr(String type, String id){ return redisTemplate.opsForValue().get(buildKey(type, id)); }
 
@@ -0,0 +1,351 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.controller.DTO.PostRequest;
+import com.hong.ForPaw.core.errors.CustomException;
+import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.domain.Post.Comment;
+import com.hong.ForPaw.domain.Post.Post;
+import com.hong.ForPaw.domain.Report.Report;
+import com.hong.ForPaw.domain.Report.ReportTargetType;
+import com.hong.ForPaw.domain.Report.ReportType;
+import com.hong.ForPaw.domain.Report.RepostStatus;
+import com.hong.ForPaw.domain.User.User;
+import com.hong.ForPaw.domain.User.UserRole;
+import com.hong.ForPaw.repository.Post.CommentRepository;
+import com.hong.ForPaw.repository.Post.PostRepository;
+import com.hong.ForPaw.repository.ReportRepository;
+import com.hong.ForPaw.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 게시글, 댓글 신고 접수
+// 요청 시에는 Lua 스크립트 한 번으로 유저별 신고 횟수 제한, 대상별 중복 확인, 누적 신고 수 계산을 처리하고 큐에 쌓아둔다
+// DB 저장과 누적 신고에 따른 숨김 처리는 모아서 주기적으로 반영하고, 저장에 실패한 신고는 다시 대기 목록에 넣는다
+// 관리자가 숨김을 해제하면 그때까지의 신고는 처리 완료로 바꾸고, 이후 새로 HIDE_THRESHOLD건이 쌓여야 다시 숨긴다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReportService {
+
+    public static final Long REPORTERS_EXP = 1000L * 60 * 60 * 24 * 30; // 30일 (만료되면 DB에서 다시 채움)
+    public static final Long REPORT_LIMIT_EXP = 1000L * 60 * 10; // 10분
+    public static final Long MAX_REPORT_PER_WINDOW = 10L; // 10분 동안 신고 가능한 횟수
+    public static final Long HIDE_THRESHOLD = 10L; // 처리되지 않은 신고가 이 수 이상이면 숨김 처리
+    private static final int MAX_SAVE_ATTEMPTS = 3; // 이 횟수만큼 저장에 실패한 신고는 버린다
+    private static final String WARMED_MARKER = "-"; // 신고가 0건이어도 집합이 존재하도록 넣어두는 값
+
+    // KEYS[1] = 유저별 신고 횟수, KEYS[2] = 대상별 신고한 유저 집합, KEYS[3] = 대상별 처리 완료된 신고 수
+    // ARGV = userId, 최대 신고 횟수, 횟수 유지 기간, 집합 유효 기간
+    // 반환: -1 = 횟수 초과, 0 = 이미 신고함, 그 외 = 처리되지 않은 누적 신고 수
+    // 이미 신고한 대상이면 횟수를 올리기 전에 반환해서, 중복 신고가 신고 가능 횟수를 쓰지 않게 한다
+    private static final RedisScript<Long> REPORT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return 0 end
+            local count = redis.call('INCR', KEYS[1])
+            if count == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[3]) end
+            if count > tonumber(ARGV[2]) then return -1 end
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            redis.call('PEXPIRE', KEYS[3], ARGV[4])
+            local processed = tonumber(redis.call('GET', KEYS[3]) or '0')
+            return redis.call('SCARD', KEYS[2]) - 1 - processed
+            """, Long.class);
+
+    private final ReportRepository reportRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    // 아직 DB에 반영되지 않은 신고와 숨김 처리할 대상
+    private final Queue<PendingReport> pendingReports = new ConcurrentLinkedQueue<>();
+    private final Set<HideTarget> pendingHides = ConcurrentHashMap.newKeySet();
+
+    public void submitReport(PostRequest.SubmitReport requestDTO, Long userId){
+        ReportTargetType targetType = requestDTO.targetType();
+        Long targetId = getTargetId(targetType, requestDTO.postId(), requestDTO.commentId());
+
+        // 작성자 id만 조회 (엔티티를 불러오지 않음)
+        Long writerId = findWriterId(targetType, targetId);
+        if(userId.equals(writerId)){
+            throw new CustomException(ExceptionCode.CANNOT_REPORT_OWN_CONTENT);
+        }
+
+        String reportersKey = buildReportersKey(targetType, targetId);
+        String processedKey = buildProcessedKey(targetType, targetId);
+        if(!Boolean.TRUE.equals(redisTemplate.hasKey(reportersKey))){
+            warmReporters(targetType, targetId, reportersKey, processedKey);
+        }
+
+        Long result = redisTemplate.execute(REPORT_SCRIPT, List.of(buildLimitKey(userId), reportersKey, processedKey),
+                userId.toString(),
+                String.valueOf(MAX_REPORT_PER_WINDOW),
+                String.valueOf(REPORT_LIMIT_EXP),
+                String.valueOf(REPORTERS_EXP));
+
+        if(result == null || result < 0){
+            throw new CustomException(ExceptionCode.REPORT_LIMIT_EXCEEDED);
+        }
+        else if(result == 0){
+            throw new CustomException(ExceptionCode.ALREADY_REPORTED);
+        }
+
+        pendingReports.add(new PendingReport(targetType, targetId, userId, requestDTO.type(), requestDTO.reason(), 0));
+
+        // 숨김 해제 때 처리 완료된 신고 수는 스크립트에서 빼고 반환된다
+        if(result >= HIDE_THRESHOLD){
+            pendingHides.add(new HideTarget(targetType, targetId));
+        }
+    }
+
+    // 숨김 처리된 게시글/댓글을 다시 보이게 한다 (관리자만 가능)
+    @Transactional
+    public void unhideContent(PostRequest.UnhideContent requestDTO, Long userId){
+        checkAdminAuthority(userId);
+
+        ReportTargetType targetType = requestDTO.targetType();
+        Long targetId = getTargetId(targetType, requestDTO.postId(), requestDTO.commentId());
+        pendingHides.remove(new HideTarget(targetType, targetId));
+
+        int unhiddenNum = targetType == ReportTargetType.POST
+                ? postRepository.unhideById(targetId)
+                : commentRepository.unhideById(targetId);
+
+        if(unhiddenNum == 0){
+            throw new CustomException(ExceptionCode.NOT_HIDDEN_CONTENT);
+        }
+
+        // 아직 저장되지 않은 이 대상의 신고도 먼저 저장해서, 나중에 PROCESSING으로 저장되지 않게 한다
+        List<PendingReport> targetReports = new ArrayList<>();
+        pendingReports.removeIf(report -> {
+            boolean matched = report.targetType() == targetType && report.targetId().equals(targetId);
+            if(matched){
+                targetReports.add(report);
+            }
+            return matched;
+        });
+        reportRepository.saveAll(targetReports.stream().map(this::toReport).toList());
+
+        // 지금까지의 신고는 처리 완료로 바꿔서, 숨김 여부 계산에서 빠지도록 한다
+        if(targetType == ReportTargetType.POST){
+            reportRepository.updateStatusByPostId(targetId, RepostStatus.PROCESSED);
+        }
+        else{
+            reportRepository.updateStatusByCommentId(targetId, RepostStatus.PROCESSED);
+        }
+
+        // 커밋된 이후에 처리 완료 수를 Redis에 반영 (신고 요청은 DB를 조회하지 않고 스크립트에서 뺀다)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                storeProcessedNum(targetType, targetId);
+            }
+        });
+    }
+
+    // 저장과 숨김 처리를 각각 별도 트랜잭션으로 실행하므로, 메서드 자체는 트랜잭션 없이 실행 (클래스의 readOnly 트랜잭션에 합류하지 않도록)
+    @Scheduled(fixedDelay = 5000) // 5초마다 DB에 반영
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushReports(){
+        List<PendingReport> reports = new ArrayList<>();
+        PendingReport pendingReport;
+        while ((pendingReport = pendingReports.poll()) != null) {
+            reports.add(pendingReport);
+        }
+
+        if(!reports.isEmpty()){
+            saveReports(reports);
+        }
+
+        List<HideTarget> hideTargets = new ArrayList<>();
+        for (HideTarget hideTarget : new ArrayList<>(pendingHides)) {
+            if(pendingHides.remove(hideTarget)){
+                hideTargets.add(hideTarget);
+            }
+        }
+
+        if(hideTargets.isEmpty()){
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> hide(hideTargets));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("신고 누적 숨김 처리 실패 ({}건): {}", hideTargets.size(), e.getMessage());
+            pendingHides.addAll(hideTargets);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown(){
+        flushReports();
+    }
+
+    // 한 번에 저장하고, 실패하면 한 건씩 다시 저장해서 문제가 있는 신고만 재시도 대상으로 남긴다
+    private void saveReports(List<PendingReport> reports){
+        try {
+            transactionTemplate.executeWithoutResult(status -> reportRepository.saveAll(reports.stream().map(this::toReport).toList()));
+            return;
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("신고 일괄 저장 실패 ({}건), 한 건씩 다시 저장: {}", reports.size(), e.getMessage());
+        }
+
+        for (PendingReport report : reports) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> reportRepository.save(toReport(report)));
+            } catch (DataAccessException | TransactionException e) {
+                requeueOrDiscard(report, e);
+            }
+        }
+    }
+
+    // MAX_SAVE_ATTEMPTS번 실패하면 버리고, 같은 유저가 다시 신고할 수 있도록 중복 확인 집합에서도 뺀다
+    private void requeueOrDiscard(PendingReport report, Exception e){
+        int attempts = report.attempts() + 1;
+        if(attempts < MAX_SAVE_ATTEMPTS){
+            pendingReports.add(report.withAttempts(attempts));
+            return;
+        }
+
+        log.warn("신고 저장 실패로 버림 targetType={}, targetId={}, userId={}: {}", report.targetType(), report.targetId(), report.userId(), e.getMessage());
+        redisTemplate.opsForSet().remove(buildReportersKey(report.targetType(), report.targetId()), report.userId().toString());
+    }
+
+    private void hide(List<HideTarget> hideTargets){
+        Set<Long> hidePostIds = new HashSet<>();
+        Set<Long> hideCommentIds = new HashSet<>();
+        hideTargets.forEach(hideTarget -> (hideTarget.targetType() == ReportTargetType.POST ? hidePostIds : hideCommentIds).add(hideTarget.targetId()));
+
+        if(!hidePostIds.isEmpty()){
+            postRepository.hideByIds(hidePostIds);
+        }
+
+        if(!hideCommentIds.isEmpty()){
+            commentRepository.hideByIds(hideCommentIds);
+        }
+    }
+
+    // 신고한 유저 집합이 있으면 그 크기(마커 제외)를, 없으면 처리 완료 수를 지워서 다음 신고 때 DB 기준으로 다시 채운다
+    private void storeProcessedNum(ReportTargetType targetType, Long targetId){
+        String reportersKey = buildReportersKey(targetType, targetId);
+        String processedKey = buildProcessedKey(targetType, targetId);
+        Long reporterNum = redisTemplate.opsForSet().size(reportersKey);
+
+        if(reporterNum == null || reporterNum == 0){
+            redisTemplate.delete(processedKey);
+            return;
+        }
+
+        redisTemplate.opsForValue().set(processedKey, String.valueOf(reporterNum - 1), Duration.ofMillis(REPORTERS_EXP));
+    }
+
+    private Long countProcessedReports(ReportTargetType targetType, Long targetId){
+        return targetType == ReportTargetType.POST
+                ? reportRepository.countByPostIdAndStatus(targetId, RepostStatus.PROCESSED)
+                : reportRepository.countByCommentIdAndStatus(targetId, RepostStatus.PROCESSED);
+    }
+
+    private void checkAdminAuthority(Long userId){
+        UserRole role = userRepository.findRoleById(userId).orElseThrow(
+                () -> new CustomException(ExceptionCode.USER_FORBIDDEN)
+        );
+
+        if(!role.equals(UserRole.ADMIN) && !role.equals(UserRole.SUPER)){
+            throw new CustomException(ExceptionCode.USER_FORBIDDEN);
+        }
+    }
+
+    private Long getTargetId(ReportTargetType targetType, Long postId, Long commentId){
+        if(targetType == ReportTargetType.POST && postId != null){
+            return postId;
+        }
+        else if(targetType == ReportTargetType.COMMENT && commentId != null){
+            return commentId;
+        }
+        else{ // postId와 commentId 모두 null인 경우
+            throw new CustomException(ExceptionCode.REPORT_TARGET_MISSING);
+        }
+    }
+
+    private Long findWriterId(ReportTargetType targetType, Long targetId){
+        if(targetType == ReportTargetType.POST){
+            return postRepository.findUserIdByPostId(targetId).orElseThrow(
+                    () -> new CustomException(ExceptionCode.POST_NOT_FOUND)
+            );
+        }
+
+        return commentRepository.findUserIdByCommentId(targetId).orElseThrow(
+                () -> new CustomException(ExceptionCode.COMMENT_NOT_FOUND)
+        );
+    }
+
+    // 집합이 없으면(처음이거나 만료) DB 기준으로 채워서, 이미 저장된 신고와 중복되지 않게 한다
+    private void warmReporters(ReportTargetType targetType, Long targetId, String reportersKey, String processedKey){
+        List<Long> reporterIds = targetType == ReportTargetType.POST
+                ? reportRepository.findUserIdsByPostId(targetId)
+                : reportRepository.findUserIdsByCommentId(targetId);
+
+        List<String> members = new ArrayList<>(reporterIds.stream().map(String::valueOf).toList());
+        members.add(WARMED_MARKER);
+
+        redisTemplate.opsForSet().add(reportersKey, members.toArray(new String[0]));
+        redisTemplate.expire(reportersKey, Duration.ofMillis(REPORTERS_EXP));
+        redisTemplate.opsForValue().set(processedKey, String.valueOf(countProcessedReports(targetType, targetId)), Duration.ofMillis(REPORTERS_EXP));
+    }
+
+    private Report toReport(PendingReport pendingReport){
+        boolean isPost = pendingReport.targetType() == ReportTargetType.POST;
+
+        return Report.builder()
+                .reporter(entityManager.getReference(User.class, pendingReport.userId()))
+                .post(isPost ? entityManager.getReference(Post.class, pendingReport.targetId()) : null)
+                .comment(isPost ? null : entityManager.getReference(Comment.class, pendingReport.targetId()))
+                .type(pendingReport.type())
+                .targetType(pendingReport.targetType())
+                .status(RepostStatus.PROCESSING)
+                .reason(pendingReport.reason())
+                .build();
+    }
+
+    private String buildReportersKey(ReportTargetType targetType, Long targetId){
+        return "reporters:" + targetType + ":" + targetId;
+    }
+
+    private String buildProcessedKey(ReportTargetType targetType, Long targetId){
+        return "reportsProcessed:" + targetType + ":" + targetId;
+    }
+
+    private String buildLimitKey(Long userId){
+        return "reportLimit:" + userId;
+    }
+
+    private record PendingReport(ReportTargetType targetType, Long targetId, Long userId, ReportType type, String reason, int attempts) {
+
+        PendingReport withAttempts(int attempts) {
+            return new PendingReport(targetType, targetId, userId, type, reason, attempts);
+        }
+    }
+
+    private record HideTarget(ReportTargetType targetType, Long targetId) {}
+}
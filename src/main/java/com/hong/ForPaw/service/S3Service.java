@@ -2,7 +2,9 @@ package com.hong.ForPaw.service;
 
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -10,7 +12,9 @@ import org.springframework.stereotype.Service;
 import java.net.URL;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -52,6 +56,22 @@ public class S3Service {
         amazonS3.deleteObject(bucketName, objectKey);
     }
 
+    // DeleteObjects로 여러 오브젝트를 한 번에 삭제 (최대 1000개), 삭제에 실패한 키 목록을 반환
+    public List<String> deleteImages(List<String> objectKeys) {
+        DeleteObjectsRequest deleteObjectsRequest = new DeleteObjectsRequest(bucketName)
+                .withKeys(objectKeys.toArray(new String[0]))
+                .withQuiet(true);
+
+        try {
+            amazonS3.deleteObjects(deleteObjectsRequest);
+            return Collections.emptyList();
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .toList();
+        }
+    }
+
     // URI에서 도메인 이름을 제거하고 오브젝트 키 부분만 추출
     public String extractObjectKeyFromUri(String s3Uri) {
         int startIndex = s3Uri.indexOf(bucketName) + bucketName.length() + 1;
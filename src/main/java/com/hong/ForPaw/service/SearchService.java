@@ -4,10 +4,10 @@ import com.hong.ForPaw.controller.DTO.SearchResponse;
 import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.core.errors.ExceptionCode;
 import com.hong.ForPaw.domain.Group.Group;
-import com.hong.ForPaw.domain.Post.Post;
 import com.hong.ForPaw.domain.Shelter;
 import com.hong.ForPaw.repository.Group.GroupRepository;
 import com.hong.ForPaw.repository.Post.PostRepository;
+import com.hong.ForPaw.repository.Post.PostRepositoryCustom;
 import com.hong.ForPaw.repository.ShelterRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -16,7 +16,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +31,7 @@ public class SearchService {
     private final PostRepository postRepository;
     private final GroupRepository groupRepository;
     private final RedisService redisService;
+    private final LikeService likeService;
 
     @Transactional
     public SearchResponse.SearchAllDTO searchAll(String keyword){
@@ -82,26 +86,28 @@ public class SearchService {
     }
 
     private List<SearchResponse.PostDTO> getPostDTOsByKeyword(String keyword){
-        // PostImages는 배치로 가져온다
-        List<Post> posts = postRepository.findByTitleContaining("*" + keyword + "*");
+        // 전문 검색으로 id만 찾고, 목록에 필요한 컬럼과 첫 번째 이미지는 한 번의 쿼리로 조회
+        List<Long> postIds = postRepository.findIdsByTitleContaining("*" + keyword + "*");
+        if(postIds.isEmpty()) return new ArrayList<>();
+
+        // IN 조회는 순서를 보장하지 않으므로 전문 검색 결과(관련도) 순서로 다시 정렬
+        Map<Long, PostRepositoryCustom.PostSummary> postMap = postRepository.findPostSummariesByIds(postIds).stream()
+                .collect(Collectors.toMap(PostRepositoryCustom.PostSummary::id, post -> post));
+        List<PostRepositoryCustom.PostSummary> posts = postIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, Long> likeNums = likeService.findLikeNums(LikeService.LikeTarget.POST, posts, PostRepositoryCustom.PostSummary::id, PostRepositoryCustom.PostSummary::likeNum);
 
         List<SearchResponse.PostDTO> postDTOS = posts.stream()
-                .map(post -> {
-                    List<SearchResponse.PostImageDTO> postImageDTOS = post.getPostImages().stream()
-                            .map(postImage -> new SearchResponse.PostImageDTO(postImage.getId(), postImage.getImageURL()))
-                            .collect(Collectors.toList());
-
-                    Long likeNum = redisService.getDataInLong("postLikeNum", post.getId().toString());
-
-                    return new SearchResponse.PostDTO(
-                            post.getId(),
-                            post.getTitle(),
-                            post.getContent(),
-                            post.getCreatedDate(),
-                            post.getCommentNum(),
-                            likeNum,
-                            postImageDTOS);
-                })
+                .map(post -> new SearchResponse.PostDTO(
+                        post.id(),
+                        post.title(),
+                        post.content(),
+                        post.createdDate(),
+                        post.commentNum(),
+                        likeNums.get(post.id()),
+                        post.imageId() != null ? List.of(new SearchResponse.PostImageDTO(post.imageId(), post.imageURL())) : new ArrayList<>()))
                 .collect(Collectors.toList());
 
         return postDTOS;
@@ -0,0 +1,143 @@
+package com.hong.ForPaw.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 유저별 세션 상태(토큰 버전, 세션 만료 시각, 로그인 실패 횟수)를 Redis 해시 "session:{userId}" 하나에 보관
+// 로그인과 토큰 재발급은 토큰 버전 발급까지 Lua 스크립트로 처리해서, 요청마다 Redis 왕복이 한 번만 일어나고 원자적으로 반영된다
+// 세션 만료 시각은 로그인할 때 정해지고, 토큰을 재발급해도 늘어나지 않는다 (다시 로그인해야 연장)
+@Service
+@RequiredArgsConstructor
+public class SessionService {
+
+    public static final Long LOGIN_FAIL_EXP = 1000L * 60 * 5; // 5분
+    public static final Long LOGIN_FAIL_DAILY_EXP = 1000L * 60 * 60 * 24; // 24시간
+    public static final Long MAX_LOGIN_FAIL = 3L;
+
+    // 토큰 버전은 세션 해시의 tokenVersion을 HINCRBY로 올려서 발급 (스크립트 안에서 올리고 반환하므로 왕복 한 번)
+    // 해시가 없으면(처음이거나 세션 제거) 현재 시각(ms)에서 시작해서, 세션을 지운 뒤에도 이전 버전이 다시 나오지 않게 한다
+    private static final String NEXT_VERSION = """
+            local function nextVersion(now)
+                if redis.call('HEXISTS', KEYS[1], 'tokenVersion') == 0 then redis.call('HSET', KEYS[1], 'tokenVersion', now) end
+                return redis.call('HINCRBY', KEYS[1], 'tokenVersion', 1)
+            end
+            """;
+
+    // KEYS[1] = 세션 키
+    // ARGV = now, 비밀번호 일치 여부, 계정 활성 여부, 세션 유효 기간, 실패 유지 기간, 일일 실패 유지 기간, 최대 실패 횟수
+    // 반환: {상태 코드, 실패 횟수, 새 토큰 버전}
+    private static final RedisScript<List> LOGIN_SCRIPT = new DefaultRedisScript<>(NEXT_VERSION + """
+            local now = tonumber(ARGV[1])
+            local maxFail = tonumber(ARGV[7])
+            local state = redis.call('HMGET', KEYS[1], 'loginFail', 'loginFailExpiresAt', 'loginFailDaily', 'loginFailDailyExpiresAt')
+
+            local loginFail = 0
+            if tonumber(state[2] or '0') > now then loginFail = tonumber(state[1]) end
+            local loginFailDaily = 0
+            if tonumber(state[4] or '0') > now then loginFailDaily = tonumber(state[3]) end
+
+            local function keepAtLeast(ttl)
+                if redis.call('PTTL', KEYS[1]) < ttl then redis.call('PEXPIRE', KEYS[1], ttl) end
+            end
+
+            if loginFailDaily >= maxFail then return {1, loginFailDaily, 0} end
+
+            if loginFail >= maxFail then
+                loginFailDaily = loginFailDaily + 1
+                redis.call('HSET', KEYS[1], 'loginFailDaily', loginFailDaily, 'loginFailDailyExpiresAt', now + tonumber(ARGV[6]))
+                keepAtLeast(tonumber(ARGV[6]))
+                return {2, loginFailDaily, 0}
+            end
+
+            if ARGV[2] ~= '1' then
+                redis.call('HSET', KEYS[1], 'loginFail', loginFail + 1, 'loginFailExpiresAt', now + tonumber(ARGV[5]))
+                keepAtLeast(tonumber(ARGV[5]))
+                return {3, loginFail + 1, 0}
+            end
+
+            if ARGV[3] ~= '1' then return {4, 0, 0} end
+
+            local version = nextVersion(now)
+            redis.call('HSET', KEYS[1], 'sessionExpiresAt', now + tonumber(ARGV[4]))
+            keepAtLeast(tonumber(ARGV[4]))
+            return {0, 0, version}
+            """, List.class);
+
+    // KEYS[1] = 세션 키, ARGV = 세션 유효 기간, now
+    // 반환: 새 토큰 버전
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(NEXT_VERSION + """
+            local version = nextVersion(tonumber(ARGV[2]))
+            redis.call('HSET', KEYS[1], 'sessionExpiresAt', tonumber(ARGV[2]) + tonumber(ARGV[1]))
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[1]) then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end
+            return version
+            """, Long.class);
+
+    // KEYS[1] = 세션 키, ARGV = 제출된 토큰 버전, now
+    // 저장된 버전과 일치할 때만 버전을 올림 => 이미 사용된(회전된) refreshToken은 재사용 불가
+    // 세션 만료 시각이 지났으면 거절하고, 만료 시간은 연장하지 않는다
+    // 반환: 새 토큰 버전, 거절되면 0
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HMGET', KEYS[1], 'tokenVersion', 'sessionExpiresAt')
+            if state[1] ~= ARGV[1] then return 0 end
+            if tonumber(state[2] or '0') <= tonumber(ARGV[2]) then return 0 end
+            return redis.call('HINCRBY', KEYS[1], 'tokenVersion', 1)
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 잠금 여부 확인, 실패 횟수 갱신, 토큰 버전 발급을 한 번에 처리
+    @SuppressWarnings("unchecked")
+    public LoginResult login(Long userId, boolean passwordMatches, boolean active, Long sessionExp) {
+        List<Long> result = redisTemplate.execute(LOGIN_SCRIPT, List.of(buildKey(userId)),
+                String.valueOf(System.currentTimeMillis()),
+                passwordMatches ? "1" : "0",
+                active ? "1" : "0",
+                String.valueOf(sessionExp),
+                String.valueOf(LOGIN_FAIL_EXP),
+                String.valueOf(LOGIN_FAIL_DAILY_EXP),
+                String.valueOf(MAX_LOGIN_FAIL));
+
+        return new LoginResult(LoginStatus.values()[result.get(0).intValue()], result.get(1), result.get(2));
+    }
+
+    // 소셜 로그인처럼 비밀번호 검증이 없는 경우, 기존 세션을 새 버전으로 교체하고 그 버전을 반환
+    public Long issue(Long userId, Long sessionExp) {
+        return redisTemplate.execute(ISSUE_SCRIPT, List.of(buildKey(userId)),
+                String.valueOf(sessionExp),
+                String.valueOf(System.currentTimeMillis()));
+    }
+
+    // 회전에 성공하면 새 토큰 버전, 세션이 없거나 버전이 맞지 않으면 null
+    public Long rotate(Long userId, Long presentedVersion) {
+        Long tokenVersion = redisTemplate.execute(ROTATE_SCRIPT, List.of(buildKey(userId)),
+                String.valueOf(presentedVersion),
+                String.valueOf(System.currentTimeMillis()));
+
+        return tokenVersion == null || tokenVersion == 0L ? null : tokenVersion;
+    }
+
+    // 탈퇴, 권한 변경 등으로 세션을 완전히 제거 => 다시 로그인해야 새 토큰 발급
+    public void invalidate(Long userId) {
+        redisTemplate.delete(buildKey(userId));
+    }
+
+    private String buildKey(Long userId) {
+        return "session:" + userId;
+    }
+
+    // 스크립트 반환 코드 순서와 일치해야 함
+    public enum LoginStatus {
+        ISSUED,
+        ACCOUNT_LOCKED,
+        ATTEMPT_EXCEEDED,
+        PASSWORD_WRONG,
+        SUSPENDED
+    }
+
+    public record LoginResult(LoginStatus status, Long count, Long tokenVersion) {}
+}
@@ -0,0 +1,133 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Post.PostType;
+import com.hong.ForPaw.repository.Post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 인기글 집계. 조회/좋아요/댓글 이벤트를 시간별 정렬 집합에 점수로 누적하고,
+// 주기적으로 최근 24시간 버킷을 시간이 지날수록 낮은 가중치로 합산(ZUNIONSTORE)해서 순위를 만든다
+// 질문글은 인기글 목록에 나오지 않으므로 점수를 쌓지 않는다 (순위에 섞이면 한 페이지가 size보다 적게 채워짐)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TrendingService {
+
+    private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH");
+    private static final String TRENDING_KEY = "trending:score";
+    private static final String VIEW_DELTA_KEY = "postViewDelta";
+    private static final String VIEW_DELTA_SYNC_KEY = "postViewDelta:sync";
+    private static final String VIEW_DELTA_LOCK_KEY = "postViewDelta:lock";
+    private static final Long SYNC_LOCK_EXP = 1000L * 60 * 5; // 반영 주기(10분)보다 짧게
+
+    private static final int BUCKET_HOURS = 24;
+    private static final double DECAY = 0.9; // 한 시간 지날 때마다 점수 10% 감소
+    private static final long TRENDING_SIZE = 100;
+    public static final Long BUCKET_EXP = 1000L * 60 * 60 * 25; // 25시간
+
+    private static final double VIEW_SCORE = 1;
+    private static final double LIKE_SCORE = 3;
+    private static final double COMMENT_SCORE = 5;
+
+    private final PostRepository postRepository;
+    private final RedisService redisService;
+
+    public void recordView(Long postId, PostType postType) {
+        addScore(postId, postType, VIEW_SCORE);
+        redisService.incrementHashValue(VIEW_DELTA_KEY, postId.toString(), 1L);
+    }
+
+    public void recordLike(Long postId, PostType postType) {
+        addScore(postId, postType, LIKE_SCORE);
+    }
+
+    public void recordUnlike(Long postId, PostType postType) {
+        addScore(postId, postType, -LIKE_SCORE);
+    }
+
+    // 질문글에는 댓글을 달 수 없으므로 글 종류를 확인하지 않는다
+    public void recordComment(Long postId) {
+        addScore(postId, null, COMMENT_SCORE);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수까지 포함
+    public Long getViewNum(Long postId, Long storedViewNum) {
+        Long viewNum = storedViewNum != null ? storedViewNum : 0L;
+        Long pending = redisService.getHashValueInLong(VIEW_DELTA_KEY, postId.toString());
+        return pending != null ? viewNum + pending : viewNum;
+    }
+
+    public List<Long> findTrendingPostIds(long size) {
+        return redisService.getTopMembersOfSortedSet(TRENDING_KEY, size).stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    @Scheduled(cron = "0 */5 * * * *") // 5분마다 순위 갱신
+    public void refreshTrending() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> bucketKeys = new ArrayList<>();
+        double[] weights = new double[BUCKET_HOURS];
+        for (int age = 0; age < BUCKET_HOURS; age++) {
+            bucketKeys.add(createBucketKey(now.minusHours(age)));
+            weights[age] = Math.pow(DECAY, age);
+        }
+
+        redisService.unionSortedSets(TRENDING_KEY, bucketKeys, weights, TRENDING_SIZE);
+    }
+
+    // 쌓인 조회수를 DB에 더해준다. 키 이름을 바꿔서 반영 중에 들어온 조회수는 다음 주기로 넘긴다
+    // 이전 반영이 실패해서 남은 키가 있으면 덮어쓰지 않고 그것부터 다시 반영하고, 키는 커밋된 뒤에만 지운다
+    // 서버가 여러 대면 같은 키를 두 번 반영할 수 있으므로 락을 잡은 서버만 실행하고, 트랜잭션이 끝나면(커밋/롤백) 락을 푼다
+    @Scheduled(cron = "0 */10 * * * *")
+    @Transactional
+    public void syncViews() {
+        String lockToken = UUID.randomUUID().toString();
+        if (!redisService.acquireLock(VIEW_DELTA_LOCK_KEY, lockToken, SYNC_LOCK_EXP)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisService.removeData(VIEW_DELTA_SYNC_KEY);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                redisService.releaseLock(VIEW_DELTA_LOCK_KEY, lockToken);
+            }
+        });
+
+        if (!redisService.isKeyExist(VIEW_DELTA_SYNC_KEY) && !redisService.renameKeyIfAbsent(VIEW_DELTA_KEY, VIEW_DELTA_SYNC_KEY)) {
+            return;
+        }
+
+        Map<String, String> viewDeltas = redisService.getHashEntries(VIEW_DELTA_SYNC_KEY);
+        viewDeltas.forEach((postId, delta) -> postRepository.incrementViewNum(Long.valueOf(delta), Long.valueOf(postId)));
+    }
+
+    private void addScore(Long postId, PostType postType, double score) {
+        if (postType == PostType.question) {
+            return;
+        }
+
+        redisService.incrementSortedSetScore(createBucketKey(LocalDateTime.now()), postId.toString(), score, BUCKET_EXP);
+    }
+
+    private String createBucketKey(LocalDateTime dateTime) {
+        return "trending:" + dateTime.format(HOUR_FORMATTER);
+    }
+}
@@ -6,6 +6,7 @@ import com.hong.ForPaw.controller.DTO.UserRequest;
 import com.hong.ForPaw.controller.DTO.UserResponse;
 import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.domain.Apply.ApplyStatus;
 import com.hong.ForPaw.domain.Authentication.LoginAttempt;
 import com.hong.ForPaw.domain.Group.GroupRole;
 import com.hong.ForPaw.domain.Inquiry.Answer;
@@ -22,7 +23,6 @@ import com.hong.ForPaw.repository.Group.GroupUserRepository;
 import com.hong.ForPaw.repository.Group.MeetingUserRepository;
 import com.hong.ForPaw.repository.Inquiry.AnswerRepository;
 import com.hong.ForPaw.repository.Inquiry.InquiryRepository;
-import com.hong.ForPaw.repository.Post.PostReadStatusRepository;
 import com.hong.ForPaw.repository.UserRepository;
 import com.hong.ForPaw.repository.UserStatusRepository;
 import jakarta.annotation.PostConstruct;
@@ -37,6 +37,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.hong.ForPaw.core.security.JWTProvider;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -65,8 +67,9 @@ public class UserService {
     private final AlarmRepository alarmRepository;
     private final ApplyRepository applyRepository;
     private final GroupUserRepository groupUserRepository;
+    private final GroupRoleCacheService groupRoleCacheService;
     private final MeetingUserRepository meetingUserRepository;
-    private final PostReadStatusRepository postReadStatusRepository;
+    private final PostReadService postReadService;
     private final ChatUserRepository chatUserRepository;
     private final InquiryRepository inquiryRepository;
     private final AnswerRepository answerRepository;
@@ -76,6 +79,8 @@ public class UserService {
     private final JavaMailSender mailSender;
     private final WebClient webClient;
     private final BrokerService brokerService;
+    private final DashboardStatsService dashboardStatsService;
+    private final SessionService sessionService;
     private final EntityManager entityManager;
 
     @Value("${spring.mail.username}")
@@ -146,43 +151,31 @@ public class UserService {
                 () -> new CustomException(ExceptionCode.USER_ACCOUNT_WRONG)
         );
 
-        // 하루 동안 5분 잠금이 세 번을 초과하면, 24시간 동안 로그인이 불가
-        Long loginFailNumDaily = redisService.getDataInLong("loginFailDaily", user.getId().toString());
-        if (loginFailNumDaily >= 3L) {
-            throw new CustomException(ExceptionCode.ACCOUNT_LOCKED);
-        }
+        boolean passwordMatches = passwordEncoder.matches(requestDTO.password(), user.getPassword());
 
-        // 로그이 실패 횟수가 3회 이상이면, 5분 동안 로그인 불가
-        Long loginFailNum = redisService.getDataInLong("loginFail", user.getId().toString());
-        if(loginFailNum >= 3L) {
-            loginFailNumDaily++;
-            redisService.storeValue("loginFailDaily", user.getId().toString(), loginFailNumDaily.toString(), 86400000L);  // 24시간
+        // 잠금 여부 확인, 실패 횟수 갱신, 기존 세션 교체(중복 로그인 방지)와 토큰 버전 발급을 Redis 왕복 한 번으로 처리
+        SessionService.LoginResult result = sessionService.login(user.getId(), passwordMatches, user.getStatus().isActive(), JWTProvider.REFRESH_EXP);
 
-            if(loginFailNumDaily == 3L){
-                sendAccountSuspensionByMail(user.getEmail());
+        switch (result.status()) {
+            // 하루 동안 5분 잠금이 세 번을 초과하면, 24시간 동안 로그인이 불가
+            case ACCOUNT_LOCKED -> throw new CustomException(ExceptionCode.ACCOUNT_LOCKED);
+            // 로그이 실패 횟수가 3회 이상이면, 5분 동안 로그인 불가
+            case ATTEMPT_EXCEEDED -> {
+                if(result.count().equals(SessionService.MAX_LOGIN_FAIL)){
+                    sendAccountSuspensionByMail(user.getEmail());
+                }
+                throw new CustomException(ExceptionCode.LOGIN_ATTEMPT_EXCEEDED);
             }
-
-            throw new CustomException(ExceptionCode.LOGIN_ATTEMPT_EXCEEDED);
-        }
-
-        // 비밀번호가 일치하지 않음
-        if(!passwordEncoder.matches(requestDTO.password(), user.getPassword())){
-            loginFailNum++;
-            redisService.storeValue("loginFail", user.getId().toString(), loginFailNum.toString(), 300000L); // 5분
-
-            throw new CustomException(ExceptionCode.USER_ACCOUNT_WRONG);
+            // 비밀번호가 일치하지 않음
+            case PASSWORD_WRONG -> throw new CustomException(ExceptionCode.USER_ACCOUNT_WRONG);
+            // 계정 정지 상태
+            case SUSPENDED -> throw new CustomException(ExceptionCode.USER_SUSPENDED);
         }
 
-        // 계정 정지 상태 체크
-        checkAccountSuspension(user);
-
         // 로그인 IP 로깅
         recordLoginAttempt(user, request);
 
-        // 기존에 로그인 된 세션 삭제
-        invalidateDuplicateSession(user);
-
-        return createToken(user);
+        return createTokenMap(JWTProvider.createAccessToken(user, result.tokenVersion()), JWTProvider.createRefreshToken(user, result.tokenVersion()));
     }
 
     @Transactional
@@ -264,6 +257,9 @@ public class UserService {
 
         // 알람 사용을 위한 설정
         setAlarm(user);
+
+        // 대시보드 통계 반영
+        dashboardStatsService.recordUserJoin();
     }
 
     @Transactional
@@ -291,6 +287,7 @@ public class UserService {
 
         setUserStatus(user);
         setAlarm(user);
+        dashboardStatsService.recordUserJoin();
     }
 
     // 중복 여부 확인 => 만약 사용 가능한 메일이면, 코드 전송
@@ -415,25 +412,36 @@ public class UserService {
         user.updateProfile(requestDTO.nickName(), requestDTO.province(), requestDTO.district(), requestDTO.subDistrict(), requestDTO.profileURL());
     }
 
+    // refreshToken 회전 => 새 accessToken, refreshToken을 함께 발급하고, 사용된 refreshToken은 무효화
     @Transactional
-    public UserResponse.AccessTokenDTO updateAccessToken(UserRequest.UpdateAccessTokenDTO requestDTO){
+    public Map<String, String> updateAccessToken(UserRequest.UpdateAccessTokenDTO requestDTO){
         // 잘못된 토큰 형식인지 체크
-        if(!JWTProvider.validateToken(requestDTO.refreshToken())) {
+        DecodedJWT decodedJWT;
+        try {
+            decodedJWT = JWTProvider.verify(requestDTO.refreshToken());
+        } catch (JWTVerificationException e) {
             throw new CustomException(ExceptionCode.TOKEN_WRONG);
         }
 
-        Long userId =JWTProvider.getUserIdFromToken(requestDTO.refreshToken());
+        Long userId = decodedJWT.getClaim("id").asLong();
+        Long presentedVersion = decodedJWT.getClaim("ver").asLong();
 
-        // 토큰 만료 여부 체크
-        if(!redisService.isDateExist("refreshToken", String.valueOf(userId)))
-            throw new CustomException(ExceptionCode.TOKEN_EXPIRED);
-
-        // 탈퇴한 회원의 refreshToken이 요청으로 왔으면, USER_NOT_FOUND 에러 발생
-        User user = userRepository.findById(userId).orElseThrow(
+        // 권한 변경, 정지, 탈퇴가 바로 반영되도록 토큰의 클레임이 아닌 DB의 유저 정보로 새 토큰 생성
+        User user = userRepository.findByIdWithUserStatus(userId).orElseThrow(
                 () -> new CustomException(ExceptionCode.USER_NOT_FOUND)
         );
 
-        return new UserResponse.AccessTokenDTO(JWTProvider.createAccessToken(user));
+        if(!user.getStatus().isActive()){
+            sessionService.invalidate(userId);
+            throw new CustomException(ExceptionCode.USER_SUSPENDED);
+        }
+
+        // 세션이 없거나(만료, 탈퇴, 재로그인, 권한 변경) 이미 회전된 토큰이면 에러
+        Long tokenVersion = presentedVersion == null ? null : sessionService.rotate(userId, presentedVersion);
+        if(tokenVersion == null)
+            throw new CustomException(ExceptionCode.TOKEN_EXPIRED);
+
+        return createTokenMap(JWTProvider.createAccessToken(user, tokenVersion), JWTProvider.createRefreshToken(user, tokenVersion));
     }
 
     // 관지라 API
@@ -446,6 +454,9 @@ public class UserService {
 
         User user = userRepository.findById(requestDTO.userId()).get();
         user.updateRole(requestDTO.role());
+
+        // 기존 토큰에 담긴 권한으로 재발급되지 않도록 세션 제거 => 다시 로그인하면 바뀐 권한으로 발급
+        sessionService.invalidate(user.getId());
     }
 
     // 게시글, 댓글, 좋아요은 남겨둔다. (정책에 따라 변경 가능)
@@ -470,16 +481,18 @@ public class UserService {
         // 알람 삭제
         alarmRepository.deleteAllByUserId(userId);
 
-        // 지원서 삭제
+        // 지원서 삭제 (대시보드 통계에서 빼기 위해 상태를 먼저 조회)
+        List<ApplyStatus> applyStatuses = applyRepository.findStatusesByUserId(userId);
         applyRepository.deleteAllByUserId(userId);
 
         // 유저와 연관 데이터 삭제
-        postReadStatusRepository.deleteAllByUserId(userId);
+        postReadService.removeReadHistory(userId);
         chatUserRepository.deleteAllByUserId(userId);
         groupUserRepository.findAllByUserIdWithGroup(userId).forEach(
                 groupUser -> {
                     redisService.decrementCnt("groupParticipantNum", groupUser.getGroup().getId().toString(), 1L);
                     groupUserRepository.delete(groupUser);
+                    groupRoleCacheService.updateRole(groupUser.getGroup().getId(), userId, null);
                 }
         );
 
@@ -491,7 +504,15 @@ public class UserService {
         );
 
         // 유저 삭제 (soft delete 처리)
+        boolean active = userStatusRepository.findIsActiveByUserId(userId).orElse(true);
         userRepository.deleteById(userId);
+
+        // 세션 삭제 => 남아있는 refreshToken으로 재발급 불가
+        sessionService.invalidate(userId);
+
+        // 대시보드 통계 반영
+        dashboardStatsService.recordUserWithdraw(active);
+        dashboardStatsService.recordAppliesDeleted(applyStatuses);
     }
 
     // 탈퇴한지 6개월 지난 유저 데이터 삭제 (매일 자정 30분에 실행)
@@ -651,26 +672,14 @@ public class UserService {
         return verificationCode;
     }
 
-    // 중복 로그인 체크 => 만약 이미 로그인된 상태라면 기존 세션은 삭제
-    private void invalidateDuplicateSession(User user){
-        String accessToken = redisService.getDataInStr("accessToken", String.valueOf(user.getId()));
-
-        if(accessToken != null){
-            redisService.removeData("accessToken", String.valueOf(user.getId()));
-        }
-    }
-
+    // 기존 세션을 새 토큰으로 교체 (중복 로그인 방지)
     private Map<String, String> createToken(User user){
-        String accessToken = JWTProvider.createAccessToken(user);
-        String refreshToken = JWTProvider.createRefreshToken(user);
-
-        // Access Token 세션에 저장 (중복 로그인 방지)
-        redisService.storeValue("accessToken", String.valueOf(user.getId()), accessToken, JWTProvider.ACCESS_EXP);
+        Long tokenVersion = sessionService.issue(user.getId(), JWTProvider.REFRESH_EXP);
 
-        // Refresh Token 갱신
-        redisService.removeData("refreshToken", String.valueOf(user.getId()));
-        redisService.storeValue("refreshToken", String.valueOf(user.getId()), refreshToken, JWTProvider.REFRESH_EXP);
+        return createTokenMap(JWTProvider.createAccessToken(user, tokenVersion), JWTProvider.createRefreshToken(user, tokenVersion));
+    }
 
+    private Map<String, String> createTokenMap(String accessToken, String refreshToken){
         // Map으로 토큰들을 담아 반환
         Map<String, String> tokens = new HashMap<>();
         tokens.put("accessToken", accessToken);
@@ -767,8 +776,6 @@ public class UserService {
 
         // 정지 상태 체크
         checkAccountSuspension(user);
-        // 기존에 로그인 된 세션 삭제
-        invalidateDuplicateSession(user);
 
         return user;
     }
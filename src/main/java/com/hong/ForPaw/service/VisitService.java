@@ -0,0 +1,111 @@
+package com.hong.ForPaw.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 방문 기록을 요청마다 Redis에 쓰지 않고, 메모리에 시간 단위로 모아두었다가 주기적으로 시간별 HyperLogLog에 반영
+// 시간별 기록의 추가/꺼내기/제거는 모두 ConcurrentHashMap.compute 안에서 하므로 서로 겹치지 않는다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VisitService {
+
+    private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH");
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    public static final Long HOUR_VISIT_EXP = 1000L * 60 * 60 * 24; // 하루 (집계가 누락되더라도 남지 않도록)
+    public static final Long DAY_VISIT_EXP = 1000L * 60 * 60 * 24 * 8; // 8일
+
+    private final RedisService redisService;
+    private final Map<String, HourlyVisits> visitsByHour = new ConcurrentHashMap<>();
+
+    public void recordVisit(Long userId) {
+        String key = createHourKey(LocalDateTime.now());
+
+        // 이번 시간에 이미 방문한 유저는 잠금 없이 바로 반환
+        HourlyVisits current = visitsByHour.get(key);
+        if (current != null && current.seen().contains(userId)) {
+            return;
+        }
+
+        // 이번 시간에 처음 방문한 유저만 반영 대상에 추가
+        visitsByHour.compute(key, (hourKey, hourlyVisits) -> {
+            HourlyVisits visits = hourlyVisits != null ? hourlyVisits : new HourlyVisits();
+            if (visits.seen().add(userId)) {
+                visits.pending().add(userId);
+            }
+
+            return visits;
+        });
+    }
+
+    @Scheduled(fixedDelay = 5000) // 5초마다 Redis에 반영
+    public void flushVisits() {
+        String currentKey = createHourKey(LocalDateTime.now());
+
+        for (String key : visitsByHour.keySet()) {
+            List<Long> visitorIds = new ArrayList<>();
+
+            // 반영할 유저를 꺼내고, 지난 시간의 기록은 메모리에서 제거
+            visitsByHour.computeIfPresent(key, (hourKey, hourlyVisits) -> {
+                visitorIds.addAll(hourlyVisits.pending());
+                hourlyVisits.pending().clear();
+
+                return hourKey.equals(currentKey) ? hourlyVisits : null;
+            });
+
+            if (visitorIds.isEmpty()) {
+                continue;
+            }
+
+            try {
+                redisService.addHyperLogLog(key, visitorIds.stream().map(String::valueOf).toList());
+                redisService.setExpireDate(key, HOUR_VISIT_EXP);
+            } catch (DataAccessException e) {
+                // 다음 반영 때 다시 시도 (HyperLogLog는 같은 값을 여러 번 넣어도 결과가 같다)
+                log.warn("방문 기록 반영 실패 {}: {}", key, e.getMessage());
+                requeue(key, visitorIds);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushVisits();
+    }
+
+    public static String createHourKey(LocalDateTime dateTime) {
+        return "visit:hour:" + dateTime.format(HOUR_FORMATTER);
+    }
+
+    public static String createDayKey(LocalDate date) {
+        return "visit:day:" + date.format(DAY_FORMATTER);
+    }
+
+    private void requeue(String key, List<Long> visitorIds) {
+        visitsByHour.compute(key, (hourKey, hourlyVisits) -> {
+            HourlyVisits visits = hourlyVisits != null ? hourlyVisits : new HourlyVisits();
+            visits.seen().addAll(visitorIds);
+            visits.pending().addAll(visitorIds);
+
+            return visits;
+        });
+    }
+
+    // seen은 compute 밖에서도 읽으므로 동시성 Set, pending은 compute 안에서만 다룬다
+    private record HourlyVisits(Set<Long> seen, Set<Long> pending) {
+
+        HourlyVisits() {
+            this(ConcurrentHashMap.newKeySet(), new HashSet<>());
+        }
+    }
+}
@@ -47,6 +47,30 @@ class AnimalControllerTest {
         result.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 보호동물_목록_필터_조회_성공() throws Exception {
+
+        // given
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/animals")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("page", "0")
+                        .param("sort", "dog")
+                        .param("gender", "M", "F")
+                        .param("neuter", "Y")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+        result.andExpect(jsonPath("$.result.animals[?(@.gender == 'Q')]").isEmpty());
+        result.andExpect(jsonPath("$.result.facets.gender").exists());
+    }
+
     @Test
     @WithUserDetails(value = "yg04076@naver.com")
     public void 보호동물_조회_성공() throws Exception {
@@ -67,6 +91,56 @@ class AnimalControllerTest {
         result.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 보호동물_추천_조회_성공() throws Exception {
+
+        // given
+        Long id = 427342202400090L;
+
+        mvc.perform(
+                get("/api/animals/" + id)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+        );
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/animals/recommend")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+        result.andExpect(jsonPath("$.result.animals[?(@.id == " + id + ")]").isEmpty());
+    }
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 보호동물_추천_조회_미리_계산된_목록_사용() throws Exception {
+
+        // given
+        String first = mvc.perform(
+                get("/api/animals/recommend")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+        ).andReturn().getResponse().getContentAsString();
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/animals/recommend")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+        result.andExpect(content().json(first));
+    }
+
     @Test
     @WithUserDetails(value = "yg04076@naver.com")
     public void 보호동물_조회_실패() throws Exception {
@@ -3,11 +3,27 @@ package com.hong.ForPaw.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hong.ForPaw.controller.DTO.GroupRequest;
 import com.hong.ForPaw.controller.DTO.PostRequest;
+import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.domain.Group.GroupRole;
+import com.hong.ForPaw.domain.District;
+import com.hong.ForPaw.domain.Group.Group;
+import com.hong.ForPaw.domain.Group.GroupUser;
+import com.hong.ForPaw.domain.Group.Meeting;
+import com.hong.ForPaw.domain.Province;
+import com.hong.ForPaw.domain.User.User;
+import com.hong.ForPaw.domain.User.UserRole;
+import com.hong.ForPaw.repository.Group.GroupDeletionRepository;
+import com.hong.ForPaw.repository.Group.GroupRepository;
+import com.hong.ForPaw.repository.Group.GroupUserRepository;
+import com.hong.ForPaw.repository.Group.MeetingRepository;
+import com.hong.ForPaw.repository.UserRepository;
+import com.hong.ForPaw.service.GroupPurgeService;
+import com.hong.ForPaw.service.GroupService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
@@ -18,7 +34,13 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -33,6 +55,27 @@ class GroupControllerTest {
     @Autowired
     private ObjectMapper om;
 
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupUserRepository groupUserRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private GroupPurgeService groupPurgeService;
+
+    @Autowired
+    private GroupDeletionRepository groupDeletionRepository;
+
     @Test
     @WithUserDetails(value = "yg040762@naver.com")
     public void 그룹_생성_성공() throws Exception {
@@ -179,6 +222,29 @@ class GroupControllerTest {
         result.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg040762@naver.com")
+    public void 그룹_가입_일괄_승인하기_성공() throws Exception {
+        // given
+        Long groupId = 1L;
+
+        GroupRequest.ApproveJoinBulkDTO requestDTO = new GroupRequest.ApproveJoinBulkDTO(List.of(11L, 12L, 13L));
+        String requestBody = om.writeValueAsString(requestDTO);
+
+        // when
+        ResultActions result = mvc.perform(
+                post("/api/groups/"+groupId+"/join/approve-bulk")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody)
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+    }
+
     @Test
     @WithUserDetails(value = "yg04076@naver.com")
     public void 그룹_가입_승인하기_실패_이미_승인한_신청() throws Exception {
@@ -438,6 +504,31 @@ class GroupControllerTest {
         result.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg040762@naver.com")
+    public void 그룹_탈퇴_후_권한_즉시_반영() throws Exception {
+        // given
+        Long groupId = 12L;
+
+        // when
+        mvc.perform(
+                post("/api/groups/"+groupId+"/withdraw")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+        );
+
+        ResultActions result = mvc.perform(
+                get("/api/groups/"+groupId+"/notices")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("page", "0")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("false"));
+    }
+
     @Test
     @WithUserDetails(value = "yg040762@naver.com")
     public void 그룹_탈퇴하기_실패_존재하지_않는_그룹() throws Exception {
@@ -688,6 +779,27 @@ class GroupControllerTest {
         result.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg040762@naver.com")
+    public void 그룹_가입자_추가_조회_성공() throws Exception {
+        // given
+        Long groupId = 1L;
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/groups/"+groupId+"/members")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("page", "0")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+        result.andExpect(jsonPath("$.result.members[?(@.role == 'TEMP')]").isEmpty());
+    }
+
     @Test
     @WithUserDetails(value = "yg040762@naver.com")
     public void 그룹_상세_조회_실패_존재하지_않는_그룹() throws Exception {
@@ -770,6 +882,28 @@ class GroupControllerTest {
         result.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg040762@naver.com")
+    public void 정기모임_추가_조회_참가자_미리보기_제한() throws Exception {
+        // given
+        Long groupId = 1L;
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/groups/"+groupId+"/meetings")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("size", "5")
+                        .param("page", "0")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+        result.andExpect(jsonPath("$.result.meetings[*].participants[5]").doesNotExist());
+    }
+
     @Test
     @WithUserDetails(value = "yg040762@naver.com")
     public void 정기모임_추가_조회_실패_존재하지_않는_그룹() throws Exception {
@@ -1269,4 +1403,84 @@ class GroupControllerTest {
 
         result.andExpect(jsonPath("$.success").value("false"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void 모임_참가_동시_요청_정원_초과_방지() throws Exception {
+        // given
+        int requestNum = 2000;
+        int maxNum = 20;
+        String suffix = String.valueOf(System.currentTimeMillis());
+
+        User creator = userRepository.findByEmail("yg04076@naver.com").orElseThrow();
+        Long groupId = groupService.createGroup(new GroupRequest.CreateGroupDTO("정원테스트" + suffix, Province.DAEGU, District.SUSEONG, "", "정원 테스트용 그룹입니다", "봉사", "https://s3.xxxx.xx.com"), creator.getId()).id();
+        Long meetingId = groupService.createMeeting(new GroupRequest.CreateMeetingDTO("정원테스트모임", LocalDateTime.now().plusDays(7), "수성구", 0L, maxNum, "정원 테스트용 모임입니다", "https://s3.xxxx.xx.com"), groupId, creator.getId()).id();
+
+        // 그룹 멤버 requestNum명 생성
+        Group group = groupRepository.findById(groupId).orElseThrow();
+        List<User> users = IntStream.range(0, requestNum)
+                .mapToObj(i -> User.builder()
+                        .name("참가자" + i)
+                        .nickName("참가자" + suffix + i)
+                        .email("member" + suffix + i + "@forpaw.com")
+                        .password("password")
+                        .role(UserRole.USER)
+                        .province(Province.DAEGU)
+                        .district(District.SUSEONG)
+                        .build())
+                .toList();
+        userRepository.saveAll(users);
+
+        try {
+            groupUserRepository.saveAll(users.stream()
+                    .map(user -> GroupUser.builder().group(group).user(user).groupRole(GroupRole.USER).build())
+                    .toList());
+
+            assertJoinLimited(groupId, meetingId, users, maxNum);
+        } finally {
+            // 공유하는 local DB에 테스트 데이터가 남지 않도록, 그룹은 삭제 작업으로 정리하고 생성한 유저는 직접 지운다
+            groupService.deleteGroup(groupId, creator.getId());
+            for (int i = 0; i < 10 && groupDeletionRepository.existsByGroupId(groupId); i++) {
+                groupPurgeService.purgeGroups();
+            }
+            userRepository.deleteAllInBatch(users);
+        }
+    }
+
+    private void assertJoinLimited(Long groupId, Long meetingId, List<User> users, int maxNum) throws InterruptedException {
+        int requestNum = users.size();
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requestNum);
+        AtomicInteger successNum = new AtomicInteger();
+        AtomicInteger fullNum = new AtomicInteger();
+
+        // when => 모든 멤버가 동시에 참가 요청
+        for (User user : users) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    groupService.joinMeeting(groupId, meetingId, user.getId());
+                    successNum.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.status() == HttpStatus.CONFLICT) fullNum.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        done.await();
+        executor.shutdown();
+
+        // then => 주최자가 한 자리를 차지하므로 maxNum - 1명만 성공
+        Meeting meeting = meetingRepository.findById(meetingId).orElseThrow();
+        System.out.println("테스트 : 성공 " + successNum.get() + ", 정원 초과 " + fullNum.get());
+
+        assertEquals(maxNum - 1, successNum.get());
+        assertEquals(requestNum - (maxNum - 1), fullNum.get());
+        assertEquals(maxNum, meeting.getParticipantNum().intValue());
+    }
+}
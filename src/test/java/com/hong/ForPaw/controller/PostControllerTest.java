@@ -3,6 +3,8 @@ package com.hong.ForPaw.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hong.ForPaw.controller.DTO.PostRequest;
 import com.hong.ForPaw.domain.Post.PostType;
+import com.hong.ForPaw.domain.Report.ReportTargetType;
+import com.hong.ForPaw.domain.Report.ReportType;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -18,6 +20,7 @@ import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @AutoConfigureMockMvc
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
@@ -96,6 +99,24 @@ class PostControllerTest {
         result.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 인기글_조회_성공() throws Exception {
+        // given
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/posts/trending")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("size", "5")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+    }
+
     @Test
     @WithUserDetails(value = "yg04076@naver.com")
     public void 게시글_업데이트_성공() throws Exception {
@@ -511,6 +532,27 @@ class PostControllerTest {
         result.andExpect(jsonPath("$.success").value("false"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 댓글_목록_조회_성공() throws Exception {
+        // given
+        Long postId = 1L;
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/posts/" + postId + "/comments")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("cursor", "0")
+                        .param("size", "5")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+    }
+
     @Test
     @WithUserDetails(value = "yg04076@naver.com")
     public void 답변_작성_성공() throws Exception {
@@ -588,4 +630,75 @@ class PostControllerTest {
 
         result.andExpect(jsonPath("$.success").value("false"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 답변_목록_조회_실패_좋아요순_커서에_좋아요_수_없음() throws Exception {
+        // given
+        Long postId = 14L;
+
+        // when
+        // 좋아요 순 커서는 (likeNum, cursor)가 함께 와야 한다
+        ResultActions result = mvc.perform(
+                get("/api/posts/" + postId + "/qna/answers")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("sort", "likeNum")
+                        .param("cursor", "20")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value("false"));
+    }
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 게시글_신고_실패_중복_신고() throws Exception {
+        // given
+        PostRequest.SubmitReport requestDTO = new PostRequest.SubmitReport(3L, null, ReportType.PROFANITY, ReportTargetType.POST, "욕설이 포함되어 있습니다.");
+        String requestBody = om.writeValueAsString(requestDTO);
+
+        mvc.perform(
+                post("/api/reports")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody)
+        );
+
+        // when => 같은 대상을 다시 신고
+        ResultActions result = mvc.perform(
+                post("/api/reports")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody)
+        );
+
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("false"));
+    }
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 숨김_해제_실패_관리자_아님() throws Exception {
+        // given
+        PostRequest.UnhideContent requestDTO = new PostRequest.UnhideContent(3L, null, ReportTargetType.POST);
+        String requestBody = om.writeValueAsString(requestDTO);
+
+        // when
+        ResultActions result = mvc.perform(
+                patch("/api/admin/reports/unhide")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody)
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value("false"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.hong.ForPaw.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+// 쿼리 수를 세기 위해 Hibernate 통계를 켜야 해서, 다른 게시글 테스트와 설정을 분리
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("local")
+class PostQueryCountControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 게시글_목록_조회_쿼리_수_확인() throws Exception {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when => 작성자, 첫 번째 이미지까지 한 번의 쿼리로 조회되어야 함 (N+1 방지)
+        ResultActions result = mvc.perform(
+                get("/api/posts/adoption")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("page", "0")
+                        .param("sort", "id")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+        System.out.println("쿼리 수 : " + statistics.getPrepareStatementCount());
+
+        result.andExpect(jsonPath("$.success").value("true"));
+        assertTrue(statistics.getPrepareStatementCount() <= 2);
+    }
+}
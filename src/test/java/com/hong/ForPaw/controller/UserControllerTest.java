@@ -1,7 +1,12 @@
 package com.hong.ForPaw.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.hong.ForPaw.controller.DTO.UserRequest;
+import com.hong.ForPaw.core.security.JWTProvider;
+import com.hong.ForPaw.core.security.JwtAuthenticationCache;
+import com.hong.ForPaw.domain.User.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,6 +19,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -31,6 +38,9 @@ class UserControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
     // 테스트 시 ddl=create로 하고 써야한다.
     @Test
     public void 로그인_성공() throws Exception {
@@ -344,6 +354,87 @@ class UserControllerTest {
         result.andExpect(jsonPath("$.success").value("false"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 권한_변경_후_토큰_재발급_실패() throws Exception {
+
+        // given
+        // 로그인으로 refreshToken 발급
+        UserRequest.LoginDTO loginDTO = new UserRequest.LoginDTO("yg04076@naver.com", "hong1234");
+        String refreshToken = mvc.perform(
+                post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(om.writeValueAsString(loginDTO))
+        ).andReturn().getResponse().getCookie("refreshToken").getValue();
+
+        DecodedJWT decodedJWT = JWTProvider.verify(refreshToken);
+        UserRole role = UserRole.values()[decodedJWT.getClaim("role").asInt()];
+
+        // 권한 변경 => 세션 제거
+        UserRequest.UpdateRoleDTO roleDTO = new UserRequest.UpdateRoleDTO(decodedJWT.getClaim("id").asLong(), role);
+        mvc.perform(
+                patch("/api/accounts/role")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(om.writeValueAsString(roleDTO))
+        ).andExpect(jsonPath("$.success").value("true"));
+
+        UserRequest.UpdateAccessTokenDTO requestDTO = new UserRequest.UpdateAccessTokenDTO(refreshToken);
+        String requestBody = om.writeValueAsString(requestDTO);
+
+        // when
+        ResultActions result = mvc.perform(
+                patch("/api/auth/access")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody)
+        );
+
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : "+responseBody);
+
+        // then
+        // 권한 변경 전에 받은 refreshToken으로는 재발급 불가
+        result.andExpect(jsonPath("$.success").value("false"));
+    }
+
+    @Test
+    public void 토큰_인증_필터_소요_시간() throws Exception {
+
+        // given
+        // 캐시 크기(10,000)를 넘겨서 채워도 항목마다 하나씩만 제거되어야 함 (요청 스레드에서 정렬하지 않음)
+        long expiresAt = System.currentTimeMillis() + JWTProvider.ACCESS_EXP;
+        long fillStart = System.nanoTime();
+        for (long i = 0; i < 20_000; i++) {
+            jwtAuthenticationCache.put("token" + i, new JwtAuthenticationCache.JwtPrincipal(i, UserRole.USER, "email" + i, "nickName" + i), expiresAt);
+        }
+        long fillMillis = (System.nanoTime() - fillStart) / 1_000_000;
+
+        UserRequest.LoginDTO loginDTO = new UserRequest.LoginDTO("yg04076@naver.com", "hong1234");
+        String accessToken = JsonPath.read(mvc.perform(
+                post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(om.writeValueAsString(loginDTO))
+        ).andReturn().getResponse().getContentAsString(), "$.accessToken");
+
+        // when
+        // 첫 요청은 서명 검증, 이후 요청은 캐시된 클레임 사용
+        int requestNum = 200;
+        long requestStart = System.nanoTime();
+        for (int i = 0; i < requestNum; i++) {
+            mvc.perform(
+                    get("/api/accounts/profile")
+                            .header(JWTProvider.HEADER, JWTProvider.TOKEN_PREFIX + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            ).andExpect(jsonPath("$.success").value("true"));
+        }
+        long averageMicros = (System.nanoTime() - requestStart) / 1_000 / requestNum;
+
+        System.out.println("캐시 채우기 : " + fillMillis + "ms, 요청당 평균 : " + averageMicros + "us");
+
+        // then
+        assertTrue(fillMillis < 1_000);
+        assertNotNull(jwtAuthenticationCache.get(JWTProvider.resolveToken(JWTProvider.TOKEN_PREFIX + accessToken)));
+    }
+
     @Test
     @WithUserDetails(value = "yg04076@naver.com")
     public void 프로필_조회_성공() throws Exception {